@@ -0,0 +1,14 @@
+package com.studyolleh.account;
+
+public interface AccountCredentials {
+
+    Long getId();
+
+    String getNickname();
+
+    String getEmail();
+
+    String getPassword();
+
+    boolean isEmailVerified();
+}
@@ -2,12 +2,14 @@ package com.studyolleh.account;
 
 import com.studyolleh.domain.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @Transactional(readOnly = true)
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountRepositoryExtension {
 
     boolean existsByEmail(String email);
 
@@ -16,4 +18,15 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Account findByEmail(String email);
 
     Account findByNickname(String Nickname);
+
+    @Query("select a.id as id, a.nickname as nickname, a.email as email, a.password as password, " +
+           "a.emailVerified as emailVerified from Account a " +
+           "where a.email = :emailOrNickname or a.nickname = :emailOrNickname")
+    AccountCredentials findCredentialsByEmailOrNickname(@Param("emailOrNickname") String emailOrNickname);
+
+    @Query("select count(t) from Account a join a.tags t where a.id = :accountId")
+    long countTagsById(@Param("accountId") Long accountId);
+
+    @Query("select count(z) from Account a join a.zones z where a.id = :accountId")
+    long countZonesById(@Param("accountId") Long accountId);
 }
@@ -0,0 +1,16 @@
+package com.studyolleh.account;
+
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Tag;
+import com.studyolleh.domain.Zone;
+
+public interface AccountRepositoryExtension {
+
+    boolean addTag(Account account, Tag tag);
+
+    boolean removeTag(Account account, Tag tag);
+
+    boolean addZone(Account account, Zone zone);
+
+    boolean removeZone(Account account, Zone zone);
+}
@@ -0,0 +1,101 @@
+package com.studyolleh.account;
+
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Tag;
+import com.studyolleh.domain.Zone;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Set;
+import java.util.function.Function;
+
+public class AccountRepositoryExtensionImpl implements AccountRepositoryExtension {
+
+    private static final String ACCOUNT_TAGS = "account_tags";
+    private static final String ACCOUNT_ZONES = "account_zones";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean addTag(Account account, Tag tag) {
+        Set<Tag> tags = loadedCollection(account, "tags", Account::getTags);
+        if (tags != null) {
+            return tags.add(tag);
+        }
+        return insertIfAbsent(ACCOUNT_TAGS, "tags_id", account.getId(), tag.getId()) > 0;
+    }
+
+    @Override
+    public boolean removeTag(Account account, Tag tag) {
+        Set<Tag> tags = loadedCollection(account, "tags", Account::getTags);
+        if (tags != null) {
+            return tags.remove(tag);
+        }
+        return delete(ACCOUNT_TAGS, "tags_id", account.getId(), tag.getId()) > 0;
+    }
+
+    @Override
+    public boolean addZone(Account account, Zone zone) {
+        Set<Zone> zones = loadedCollection(account, "zones", Account::getZones);
+        if (zones != null) {
+            return zones.add(zone);
+        }
+        return insertIfAbsent(ACCOUNT_ZONES, "zones_id", account.getId(), zone.getId()) > 0;
+    }
+
+    @Override
+    public boolean removeZone(Account account, Zone zone) {
+        Set<Zone> zones = loadedCollection(account, "zones", Account::getZones);
+        if (zones != null) {
+            return zones.remove(zone);
+        }
+        return delete(ACCOUNT_ZONES, "zones_id", account.getId(), zone.getId()) > 0;
+    }
+
+    private <T> Set<T> loadedCollection(Account account, String attributeName, Function<Account, Set<T>> getter) {
+        Account managed = entityManager.getReference(Account.class, account.getId());
+        if (!Hibernate.isPropertyInitialized(managed, attributeName)) {
+            return null;
+        }
+        Set<T> collection = getter.apply(managed);
+        return Hibernate.isInitialized(collection) ? collection : null;
+    }
+
+    private int insertIfAbsent(String table, String elementColumn, Long accountId, Long elementId) {
+        String sql = "insert into " + table + " (account_id, " + elementColumn + ") values (?, ?)";
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, accountId);
+                statement.setLong(2, elementId);
+                int inserted = statement.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+                return inserted;
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    return 0;
+                }
+                throw e;
+            }
+        });
+    }
+
+    private int delete(String table, String elementColumn, Long accountId, Long elementId) {
+        String sql = "delete from " + table + " where account_id = ? and " + elementColumn + " = ?";
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, accountId);
+                statement.setLong(2, elementId);
+                return statement.executeUpdate();
+            }
+        });
+    }
+}
@@ -4,12 +4,16 @@ import com.studyolleh.config.AppProperties;
 import com.studyolleh.domain.Account;
 import com.studyolleh.domain.Tag;
 import com.studyolleh.domain.Zone;
+import com.studyolleh.image.ImageService;
 import com.studyolleh.mail.EmailMessage;
-import com.studyolleh.mail.EmailService;
+import com.studyolleh.mail.EmailOutbox;
+import com.studyolleh.mail.MailTemplateRenderer;
 import com.studyolleh.settings.form.NicknameForm;
 import com.studyolleh.settings.form.Notifications;
 import com.studyolleh.settings.form.PasswordForm;
 import com.studyolleh.settings.form.Profile;
+import com.studyolleh.tag.TagService;
+import com.studyolleh.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -22,12 +26,16 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.util.StringUtils;
 
 import javax.validation.Valid;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,11 +44,16 @@ import java.util.Set;
 public class AccountService implements UserDetailsService {
 
     private final AccountRepository accountRepository;
-    private final EmailService emailService;
+    private final EmailOutbox emailOutbox;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
-    private final TemplateEngine templateEngine;
+    private final MailTemplateRenderer mailTemplateRenderer;
     private final AppProperties appProperties;
+    private final ImageService imageService;
+    private final UserAccountCache userAccountCache;
+    private final TagService tagService;
+    private final ZoneService zoneService;
+    private final CurrentAccountHolder currentAccountHolder;
 
     @Transactional
     public Account processNewAccount(SignUpForm signUpForm) {
@@ -58,14 +71,8 @@ public class AccountService implements UserDetailsService {
     }
 
     public void sendSignUpConfirmEmail(Account newAccount) {
-        Context context = new Context();
-        context.setVariable("link", "/check-email-token?token=" + newAccount.getEmailCheckToken() +
-                "&email=" + newAccount.getEmail());
-        context.setVariable("nickname", newAccount.getNickname());
-        context.setVariable("linkName", "이메일 인증하기");
-        context.setVariable("message", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = renderSimpleLink(newAccount, "/check-email-token?token=" + newAccount.getEmailCheckToken() +
+                "&email=" + newAccount.getEmail(), "이메일 인증하기", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.");
 
         EmailMessage emailMessage = EmailMessage.builder()
                                                 .to(newAccount.getEmail())
@@ -73,35 +80,44 @@ public class AccountService implements UserDetailsService {
                                                 .message(message)
                                                 .build();
 
-        emailService.sendEmail(emailMessage);
+        emailOutbox.enqueue(emailMessage);
     }
 
     @Transactional(readOnly = true)
     @Override
     public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(emailOrNickname);
-        if (account == null) {
-            account = accountRepository.findByNickname(emailOrNickname);
-        }
-        if (account == null) {
-            throw new UsernameNotFoundException(emailOrNickname);
-        }
-        return new UserAccount(account);
+        return userAccountCache.get(emailOrNickname, accountRepository::findCredentialsByEmailOrNickname)
+                               .map(UserAccount::new)
+                               .orElseThrow(() -> new UsernameNotFoundException(emailOrNickname));
     }
 
     public void completeSignUp(Account account) {
         account.completeSignUp();
+        userAccountCache.evict(account.getEmail(), account.getNickname());
         login(account);
     }
 
-    public void updateProfile(Account account, Profile profile) {
+    public void updateProfile(Account account, Profile profile, String uploadedImage) {
+        String profileImage = account.getProfileImage();
         modelMapper.map(profile, account);
+        account.setProfileImage(profileImage);
+        updateProfileImage(account, profile.getProfileImage(), uploadedImage);
         accountRepository.save(account);
     }
 
+    private void updateProfileImage(Account account, String profileImage, String uploadedImage) {
+        if (uploadedImage != null) {
+            account.changeProfileImage(uploadedImage);
+            imageService.generateVariants(uploadedImage);
+        } else if (!StringUtils.hasText(profileImage)) {
+            account.changeProfileImage(null);
+        }
+    }
+
     public void updatePassword(Account account, PasswordForm passwordForm) {
         account.setPassword(passwordEncoder.encode(passwordForm.getNewPassword()));
         accountRepository.save(account);
+        userAccountCache.evict(account.getEmail(), account.getNickname());
     }
 
     public boolean isSamePasswordBeforeAndAfter(Account account, PasswordForm passwordForm) {
@@ -114,51 +130,75 @@ public class AccountService implements UserDetailsService {
     }
 
     public void updateNickname(Account account, NicknameForm nicknameForm) {
+        String oldNickname = account.getNickname();
         modelMapper.map(nicknameForm, account);
         accountRepository.save(account);
+        userAccountCache.evict(account.getEmail(), oldNickname, account.getNickname());
         login(account);
     }
 
     public void sendLoginLink(Account account) {
-        Context context = new Context();
-        context.setVariable("link", "/login-by-email?token=" + account.getEmailCheckToken() +
-                "&email=" + account.getEmail());
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("linkName", "스터디올래 로그인하기");
-        context.setVariable("message", "로그인 하려면 아래 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = renderSimpleLink(account, "/login-by-email?token=" + account.getEmailCheckToken() +
+                "&email=" + account.getEmail(), "스터디올래 로그인하기", "로그인 하려면 아래 링크를 클릭하세요.");
 
         EmailMessage emailMessage = EmailMessage.builder()
                                                 .to(account.getEmail())
                                                 .subject("스터디올래, 로그인 링크")
                                                 .message(message)
                                                 .build();
-        emailService.sendEmail(emailMessage);
+        emailOutbox.enqueue(emailMessage);
     }
 
     public Set<Tag> getTags(Account account) {
-        return accountRepository.findById(account.getId()).map(byId -> byId.getTags()).get();
+        return currentAccountHolder.getAccount(account).getTags();
     }
 
     public void addTag(Account account, Tag tag) {
-        accountRepository.findById(account.getId()).ifPresent(byId -> byId.getTags().add(tag));
+        if (accountRepository.addTag(account, tag)) {
+            tagService.use(tag);
+        }
     }
 
     public void removeTag(Account account, Tag tag) {
-        accountRepository.findById(account.getId()).ifPresent(byId -> byId.getTags().remove(tag));
+        if (accountRepository.removeTag(account, tag)) {
+            tagService.release(tag);
+        }
+    }
+
+    public List<String> updateTags(Account account, Collection<String> titlesToAdd, Collection<String> titlesToRemove) {
+        List<Tag> tagsToAdd = tagService.findOrCreateAll(titlesToAdd);
+        List<Tag> tagsToRemove = tagService.findAll(titlesToRemove);
+        Set<Tag> tags = getTags(account);
+        tagsToAdd.stream().filter(tags::add).forEach(tagService::use);
+        tagsToRemove.stream().filter(tags::remove).forEach(tagService::release);
+        return tags.stream().map(Tag::getTitle).sorted().collect(Collectors.toList());
+    }
+
+    public long countTags(Account account) {
+        return accountRepository.countTagsById(account.getId());
     }
 
     public Set<Zone> getZones(Account account) {
-        return accountRepository.findById(account.getId()).map(byId -> byId.getZones()).get();
+        return currentAccountHolder.getAccount(account).getZones();
     }
 
     public void addZone(Account account, Zone zone) {
-        accountRepository.findById(account.getId()).ifPresent(byId -> byId.getZones().add(zone));
+        accountRepository.addZone(account, zone);
     }
 
     public void removeZone(Account account, Zone zone) {
-        accountRepository.findById(account.getId()).ifPresent(byId -> byId.getZones().remove(zone));
+        accountRepository.removeZone(account, zone);
+    }
+
+    public List<String> updateZones(Account account, Collection<String> zoneNamesToAdd, Collection<String> zoneNamesToRemove) {
+        Set<Zone> zones = getZones(account);
+        zones.addAll(zoneService.findZones(zoneNamesToAdd));
+        zones.removeAll(zoneService.findZones(zoneNamesToRemove));
+        return zones.stream().map(Zone::toString).sorted().collect(Collectors.toList());
+    }
+
+    public long countZones(Account account) {
+        return accountRepository.countZonesById(account.getId());
     }
 
     public Account getAccount(String nickname) {
@@ -169,10 +209,21 @@ public class AccountService implements UserDetailsService {
         return account;
     }
 
+    private String renderSimpleLink(Account account, String link, String linkName, String message) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("link", link);
+        variables.put("nickname", account.getNickname());
+        variables.put("linkName", linkName);
+        variables.put("message", message);
+        variables.put("host", appProperties.getHost());
+        return mailTemplateRenderer.render("mail/simple-link", variables);
+    }
+
     private Account saveNewAccount(@Valid SignUpForm signUpForm) {
         signUpForm.setPassword(passwordEncoder.encode(signUpForm.getPassword()));
         Account account = modelMapper.map(signUpForm, Account.class);
         account.generateEmailCheckToken();
+        userAccountCache.evict(account.getEmail(), account.getNickname());
         return accountRepository.save(account);
     }
 }
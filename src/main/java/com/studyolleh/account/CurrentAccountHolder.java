@@ -0,0 +1,56 @@
+package com.studyolleh.account;
+
+import com.studyolleh.domain.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentAccountHolder {
+
+    private static final String ACCOUNT_ATTRIBUTE = CurrentAccountHolder.class.getName() + ".account";
+
+    private final AccountRepository accountRepository;
+
+    public Account getAccount() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Optional<Account> account = getLoadedAccount(attributes);
+        if (account == null) {
+            account = Optional.ofNullable(loadAccount());
+            attributes.setAttribute(ACCOUNT_ATTRIBUTE, account, RequestAttributes.SCOPE_REQUEST);
+        }
+        return account.orElse(null);
+    }
+
+    public Account getAccount(Account account) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Optional<Account> loaded = attributes == null ? null : getLoadedAccount(attributes);
+        if (loaded != null && loaded.orElse(null) == account) {
+            return account;
+        }
+        return accountRepository.findById(account.getId()).get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Account> getLoadedAccount(RequestAttributes attributes) {
+        return (Optional<Account>) attributes.getAttribute(ACCOUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private Account loadAccount() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserAccount)) {
+            return null;
+        }
+        UserAccount userAccount = (UserAccount) authentication.getPrincipal();
+        return accountRepository.findById(userAccount.getId()).orElse(null);
+    }
+}
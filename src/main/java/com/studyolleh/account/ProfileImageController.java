@@ -0,0 +1,49 @@
+package com.studyolleh.account;
+
+import com.studyolleh.domain.Account;
+import com.studyolleh.image.ImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.net.URI;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@Controller
+@RequiredArgsConstructor
+public class ProfileImageController {
+
+    private final AccountRepository accountRepository;
+    private final ImageService imageService;
+
+    @GetMapping("/profile-image/{id}/{version}")
+    @ResponseBody
+    public ResponseEntity<byte[]> profileImage(@PathVariable Long id, @PathVariable int version,
+                                               @RequestParam(required = false) Integer size) {
+        Account account = accountRepository.findById(id).orElse(null);
+        if (account == null || account.getProfileImage() == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (account.getProfileImageVersion() != version) {
+            String location = size == null ? account.getProfileImageUrl() : account.getProfileImageUrl(size);
+            return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(location)).build();
+        }
+        return imageService.find(account.getProfileImage(), size)
+                           .map(image -> ResponseEntity.ok()
+                                                       .cacheControl(image.isPending()
+                                                               ? CacheControl.noCache()
+                                                               : CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+                                                       .eTag(image.getKey())
+                                                       .lastModified(account.getProfileImageUpdatedAt().atZone(ZoneId.systemDefault()))
+                                                       .contentType(image.getMediaType())
+                                                       .body(image.getContent()))
+                           .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
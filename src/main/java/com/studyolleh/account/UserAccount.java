@@ -10,10 +10,29 @@ import java.util.Collections;
 @Getter
 public class UserAccount extends User {
 
-    private Account account;
+    private final Long id;
+
+    private final String email;
+
+    private final boolean emailVerified;
 
     public UserAccount(Account account) {
-        super(account.getNickname(), account.getPassword(), Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
-        this.account = account;
+        this(account.getId(), account.getNickname(), account.getEmail(), account.getPassword(), account.isEmailVerified());
+    }
+
+    public UserAccount(AccountCredentials credentials) {
+        this(credentials.getId(), credentials.getNickname(), credentials.getEmail(), credentials.getPassword(),
+                credentials.isEmailVerified());
+    }
+
+    private UserAccount(Long id, String nickname, String email, String password, boolean emailVerified) {
+        super(nickname, password, Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
+        this.id = id;
+        this.email = email;
+        this.emailVerified = emailVerified;
+    }
+
+    public String getNickname() {
+        return getUsername();
     }
 }
@@ -0,0 +1,52 @@
+package com.studyolleh.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolleh.config.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class UserAccountCache {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, AccountCredentials> accounts = Caffeine.newBuilder()
+                                                            .expireAfterWrite(Duration.ofMinutes(10))
+                                                            .maximumSize(10_000)
+                                                            .recordStats()
+                                                            .build();
+
+    @PostConstruct
+    public void bindMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, "userAccounts");
+    }
+
+    public Optional<AccountCredentials> get(String emailOrNickname, Function<String, AccountCredentials> loader) {
+        AccountCredentials credentials = accounts.getIfPresent(emailOrNickname);
+        if (credentials != null) {
+            return Optional.of(credentials);
+        }
+        AccountCredentials loaded = loader.apply(emailOrNickname);
+        if (loaded != null) {
+            AfterCommit.run(() -> accounts.put(emailOrNickname, loaded));
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    public void evict(String... emailsOrNicknames) {
+        List<String> keys = Arrays.asList(emailsOrNicknames);
+        accounts.invalidateAll(keys);
+        AfterCommit.run(() -> accounts.invalidateAll(keys));
+    }
+}
@@ -10,4 +10,6 @@ import org.springframework.stereotype.Component;
 public class AppProperties {
 
     private String host;
+
+    private String blobStorePath;
 }
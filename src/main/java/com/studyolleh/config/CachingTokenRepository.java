@@ -0,0 +1,148 @@
+package com.studyolleh.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class CachingTokenRepository implements PersistentTokenRepository {
+
+    private static final String UPDATE_TOKEN_VALUE_SQL = "update persistent_logins set token = ? where series = ?";
+    private static final String UPDATE_LAST_USED_SQL = "update persistent_logins set last_used = ? where series = ?";
+
+    static final int MAX_PENDING_UPDATES = 10_000;
+
+    private final JdbcTokenRepositoryImpl jdbcTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Cache<String, PersistentRememberMeToken> tokens = Caffeine.newBuilder()
+                                                                            .expireAfterAccess(Duration.ofHours(1))
+                                                                            .maximumSize(100_000)
+                                                                            .build();
+
+    private final Map<String, Date> pendingLastUsed = new ConcurrentHashMap<>();
+
+    private final int maxPendingUpdates;
+
+    private volatile boolean flushFailed;
+
+    private final AtomicLong removals = new AtomicLong();
+
+    public CachingTokenRepository(DataSource dataSource) {
+        this(dataSource, new JdbcTokenRepositoryImpl(), MAX_PENDING_UPDATES);
+    }
+
+    CachingTokenRepository(DataSource dataSource, JdbcTokenRepositoryImpl jdbcTokenRepository, int maxPendingUpdates) {
+        this.jdbcTokenRepository = jdbcTokenRepository;
+        this.maxPendingUpdates = maxPendingUpdates;
+        this.jdbcTokenRepository.setDataSource(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        jdbcTokenRepository.createNewToken(token);
+        tokens.put(token.getSeries(), token);
+    }
+
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        long removalsBefore = removals.get();
+        PersistentRememberMeToken current = getTokenForSeries(series);
+        if (current == null || flushFailed || pendingLastUsed.size() >= maxPendingUpdates) {
+            pendingLastUsed.remove(series);
+            jdbcTokenRepository.updateToken(series, tokenValue, lastUsed);
+        } else {
+            jdbcTemplate.update(UPDATE_TOKEN_VALUE_SQL, tokenValue, series);
+            pendingLastUsed.put(series, lastUsed);
+        }
+        if (current == null) {
+            return;
+        }
+        PersistentRememberMeToken updated = new PersistentRememberMeToken(current.getUsername(), series, tokenValue, lastUsed);
+        tokens.put(series, updated);
+        if (removals.get() != removalsBefore && jdbcTokenRepository.getTokenForSeries(series) == null) {
+            pendingLastUsed.remove(series);
+            tokens.asMap().remove(series, updated);
+        }
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        PersistentRememberMeToken cached = tokens.getIfPresent(seriesId);
+        if (cached != null) {
+            return cached;
+        }
+        long removalsBefore = removals.get();
+        PersistentRememberMeToken loaded = jdbcTokenRepository.getTokenForSeries(seriesId);
+        if (loaded == null) {
+            return null;
+        }
+        Date lastUsed = pendingLastUsed.get(seriesId);
+        if (lastUsed != null) {
+            loaded = new PersistentRememberMeToken(loaded.getUsername(), seriesId, loaded.getTokenValue(), lastUsed);
+        }
+        PersistentRememberMeToken concurrent = tokens.asMap().putIfAbsent(seriesId, loaded);
+        if (concurrent != null) {
+            return concurrent;
+        }
+        if (removals.get() != removalsBefore) {
+            tokens.asMap().remove(seriesId, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void removeUserTokens(String username) {
+        jdbcTokenRepository.removeUserTokens(username);
+        removals.incrementAndGet();
+        tokens.asMap().values().stream()
+              .filter(token -> token.getUsername().equals(username))
+              .map(PersistentRememberMeToken::getSeries)
+              .collect(Collectors.toList())
+              .forEach(series -> {
+                  pendingLastUsed.remove(series);
+                  tokens.invalidate(series);
+              });
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelay = 10_000)
+    public void flush() {
+        List<Map.Entry<String, Date>> updates = new ArrayList<>(new HashMap<>(pendingLastUsed).entrySet());
+        if (updates.isEmpty()) {
+            flushFailed = false;
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_USED_SQL, updates, updates.size(), (ps, update) -> {
+                ps.setTimestamp(1, new Timestamp(update.getValue().getTime()));
+                ps.setString(2, update.getKey());
+            });
+            updates.forEach(update -> pendingLastUsed.remove(update.getKey(), update.getValue()));
+            flushFailed = false;
+        } catch (DataAccessException e) {
+            flushFailed = true;
+            log.error("failed to flush {} remember-me last used updates", updates.size(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.studyolleh.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling-enabled", matchIfMissing = true)
+public class SchedulingConfig {
+
+}
@@ -5,6 +5,7 @@ import lombok.*;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -45,10 +46,13 @@ public class Account {
 
     private String location;
 
-    @Lob
-    @Basic(fetch = FetchType.EAGER)
+    @Column(length = 64)
     private String profileImage;
 
+    private int profileImageVersion;
+
+    private LocalDateTime profileImageUpdatedAt;
+
     private boolean studyCreatedByEmail;
 
     private boolean studyCreatedByWeb = true;
@@ -85,6 +89,22 @@ public class Account {
         return this.emailCheckTokenGeneratedAt.isBefore(LocalDateTime.now().minusHours(1));
     }
 
+    public void changeProfileImage(String profileImage) {
+        if (!Objects.equals(this.profileImage, profileImage)) {
+            this.profileImage = profileImage;
+            this.profileImageVersion++;
+            this.profileImageUpdatedAt = LocalDateTime.now();
+        }
+    }
+
+    public String getProfileImageUrl() {
+        return this.profileImage == null ? null : "/profile-image/" + this.id + "/" + this.profileImageVersion;
+    }
+
+    public String getProfileImageUrl(int size) {
+        return this.profileImage == null ? null : getProfileImageUrl() + "?size=" + size;
+    }
+
     public boolean isManagerOf(Study study) {
         return study.getManagers().contains(this);
     }
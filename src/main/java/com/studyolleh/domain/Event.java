@@ -1,7 +1,7 @@
 package com.studyolleh.domain;
 
-import com.studyolleh.account.UserAccount;
 import lombok.*;
+import org.hibernate.annotations.LazyGroup;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -12,6 +12,7 @@ import java.util.List;
         attributeNodes = @NamedAttributeNode("enrollments")
 )
 @Entity
+@Table(indexes = @Index(name = "idx_event_study_end_date_time", columnList = "study_id, end_date_time"))
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -34,6 +35,8 @@ public class Event {
     private String title;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("description")
     private String description;
 
     @Column(nullable = false)
@@ -51,49 +54,39 @@ public class Event {
     @Column
     private int limitOfEnrollments;
 
+    @Column(updatable = false)
+    private int acceptedCount;
+
+    @Column(updatable = false)
+    private int waitingCount;
+
     @OneToMany(mappedBy = "event")
     private List<Enrollment> enrollments;
 
     @Enumerated(EnumType.STRING)
     private EventType eventType;
 
-    public boolean isEnrollableFor(UserAccount userAccount) {
-        return isNotClosed() && !isAttended(userAccount) && !isAlreadyEnrolled(userAccount);
+    public boolean isEnrollableFor(Enrollment enrollment) {
+        return isNotClosed() && enrollment == null;
     }
 
-    public boolean isDisenrollableFor(UserAccount userAccount) {
-        return isNotClosed() && !isAttended(userAccount) && isAlreadyEnrolled(userAccount);
+    public boolean isDisenrollableFor(Enrollment enrollment) {
+        return isNotClosed() && enrollment != null && !enrollment.isAttended();
     }
 
     public boolean isNotClosed() {
         return this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
     }
 
-    public boolean isAttended(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account) && e.isAttended()) {
-                return true;
-            }
-        }
-        return false;
+    public boolean isAttended(Enrollment enrollment) {
+        return enrollment != null && enrollment.isAttended();
     }
 
     public int numberOfRemainSpots() {
-        return this.limitOfEnrollments - (int) this.enrollments.stream().filter(Enrollment::isAccepted).count();
+        return this.limitOfEnrollments - this.acceptedCount;
     }
 
     public long getNumberOfAcceptedEnrollments() {
-        return (long) this.enrollments.stream().filter(Enrollment::isAccepted).count();
-    }
-
-    private boolean isAlreadyEnrolled(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account)) {
-                return true;
-            }
-        }
-        return false;
+        return this.acceptedCount;
     }
 }
@@ -0,0 +1,6 @@
+package com.studyolleh.domain;
+
+public enum OutboxEmailStatus {
+
+    PENDING, SENT, FAILED
+}
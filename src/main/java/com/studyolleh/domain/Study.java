@@ -42,12 +42,10 @@ public class Study {
 
     private String shortDescription;
 
-    @Lob
-    @Basic(fetch = FetchType.EAGER)
-    private String fullDescription;
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    private StudyContent content;
 
-    @Lob
-    @Basic(fetch = FetchType.EAGER)
+    @Column(length = 64)
     private String image;
 
     @ManyToMany
@@ -70,22 +68,37 @@ public class Study {
 
     private boolean useBanner;
 
+    public String getFullDescription() {
+        return this.content == null ? null : this.content.getFullDescription();
+    }
+
+    public void setFullDescription(String fullDescription) {
+        if (this.content == null) {
+            this.content = new StudyContent(fullDescription);
+        } else {
+            this.content.setFullDescription(fullDescription);
+        }
+    }
+
     public void addManager(Account account) {
         this.managers.add(account);
     }
 
     public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
         return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
+                && !isMember(userAccount) && !isManager(userAccount);
     }
 
     public boolean isMember(UserAccount userAccount) {
-        return this.members.contains(userAccount.getAccount());
+        return containsAccount(this.members, userAccount.getId());
     }
 
     public boolean isManager(UserAccount userAccount) {
-        return this.managers.contains(userAccount.getAccount());
+        return containsAccount(this.managers, userAccount.getId());
+    }
+
+    private boolean containsAccount(Set<Account> accounts, Long accountId) {
+        return accounts.stream().anyMatch(account -> account.getId().equals(accountId));
     }
 
     public boolean isRemovable() {
@@ -134,6 +147,14 @@ public class Study {
         this.getMembers().remove(account);
     }
 
+    public String getImageUrl() {
+        return this.image == null ? null : "/images/" + this.image;
+    }
+
+    public String getImageUrl(int size) {
+        return this.image == null ? null : getImageUrl() + "?size=" + size;
+    }
+
     public String getEncodedPath() throws UnsupportedEncodingException {
         return URLEncoder.encode(this.path, String.valueOf(StandardCharsets.UTF_8));
     }
@@ -0,0 +1,26 @@
+package com.studyolleh.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@Entity
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyContent {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Lob
+    @Basic(fetch = FetchType.EAGER)
+    private String fullDescription;
+
+    public StudyContent(String fullDescription) {
+        this.fullDescription = fullDescription;
+    }
+}
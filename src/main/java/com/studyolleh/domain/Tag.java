@@ -1,6 +1,10 @@
 package com.studyolleh.domain;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -8,6 +12,8 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -20,6 +26,7 @@ public class Tag {
     @GeneratedValue
     private Long id;
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String title;
 }
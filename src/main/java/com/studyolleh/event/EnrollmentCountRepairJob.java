@@ -0,0 +1,26 @@
+package com.studyolleh.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnrollmentCountRepairJob {
+
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+
+    @Scheduled(cron = "${app.enrollment-count-repair-cron:0 0 4 * * *}")
+    public void repair() {
+        int repaired = 0;
+        for (Long eventId : eventRepository.findAllIds()) {
+            if (eventService.repairEnrollmentCounts(eventId)) {
+                repaired++;
+            }
+        }
+        log.info("repaired enrollment counts of {} events", repaired);
+    }
+}
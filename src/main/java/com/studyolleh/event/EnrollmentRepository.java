@@ -0,0 +1,34 @@
+package com.studyolleh.event;
+
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Enrollment;
+import com.studyolleh.domain.Event;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    boolean existsByEventAndAccount(Event event, Account account);
+
+    Enrollment findByEventAndAccount(Event event, Account account);
+
+    Enrollment findFirstByEventAndAcceptedOrderByEnrolledAtAsc(Event event, boolean accepted);
+
+    int countByEventAndAccepted(Event event, boolean accepted);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Enrollment e where e.id = :id and e.accepted = :accepted and e.attended = false")
+    int deleteNotAttended(@Param("id") Long id, @Param("accepted") boolean accepted);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Enrollment e where e.event = :event")
+    int deleteByEventInBulk(@Param("event") Event event);
+}
@@ -9,6 +9,9 @@ import com.studyolleh.event.validator.EventValidator;
 import com.studyolleh.study.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -17,7 +20,6 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -31,6 +33,9 @@ public class EventController {
     private final ModelMapper modelMapper;
     private final EventValidator eventValidator;
     private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    static final int PAST_EVENTS_PAGE_SIZE = 20;
 
     @InitBinder("eventForm")
     public void initBinder(WebDataBinder webDataBinder) {
@@ -65,28 +70,31 @@ public class EventController {
         model.addAttribute(account);
         model.addAttribute(study);
 
-        List<Event> events = eventRepository.findByStudyOrderByStartDateTime(study);
-        List<Event> newEvents = new ArrayList<>();
-        List<Event> oldEvents = new ArrayList<>();
-        events.forEach(event -> {
-            if (event.getEndDateTime().isBefore(LocalDateTime.now())) {
-                oldEvents.add(event);
-            } else {
-                newEvents.add(event);
-            }
-        });
-
-        model.addAttribute("newEvents", newEvents);
-        model.addAttribute("oldEvents", oldEvents);
+        LocalDateTime now = LocalDateTime.now();
+        model.addAttribute("newEvents", eventRepository.findByStudyAndEndDateTimeGreaterThanEqualOrderByStartDateTime(study, now));
+        model.addAttribute("oldEventCount", eventRepository.countByStudyAndEndDateTimeBefore(study, now));
+        addPastEvents(model, study, now, now, Long.MAX_VALUE, 0);
 
         return "study/events";
     }
 
+    @GetMapping("/events/past")
+    public String viewPastEvents(@PathVariable String path,
+                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDateTime,
+                                 @RequestParam Long id, @RequestParam(defaultValue = "0") int offset, Model model) {
+        Study study = studyService.getStudy(path);
+        model.addAttribute(study);
+        addPastEvents(model, study, LocalDateTime.now(), endDateTime, id, offset);
+        return "study/events :: old-events";
+    }
+
     @GetMapping("/events/{eventId}")
     public String getEvent(@CurrentUser Account account, @PathVariable String path,
                            @PathVariable Long eventId, Model model) {
+        Event event = eventRepository.findById(eventId).orElseThrow(NoSuchElementException::new);
         model.addAttribute(account);
-        model.addAttribute(eventRepository.findById(eventId).get());
+        model.addAttribute(event);
+        model.addAttribute("myEnrollment", enrollmentRepository.findByEventAndAccount(event, account));
         model.addAttribute(studyService.getStudy(path));
         return "event/view";
     }
@@ -122,10 +130,41 @@ public class EventController {
         return "redirect:/study/" + study.getPath() + "/events/" + event.getId();
     }
 
+    @PostMapping("/events/{eventId}/enroll")
+    public String newEnrollment(@CurrentUser Account account, @PathVariable String path, @PathVariable Long eventId) {
+        Study study = studyService.getStudy(path);
+        Event event = eventRepository.findById(eventId).orElseThrow(NoSuchElementException::new);
+        try {
+            eventService.newEnrollment(event, account);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 계정의 동시 신청은 (event, account) 유니크 제약으로 한 건만 저장된다.
+        }
+        return "redirect:/study/" + study.getPath() + "/events/" + event.getId();
+    }
+
+    @PostMapping("/events/{eventId}/leave")
+    public String cancelEnrollment(@CurrentUser Account account, @PathVariable String path, @PathVariable Long eventId) {
+        Study study = studyService.getStudy(path);
+        Event event = eventRepository.findById(eventId).orElseThrow(NoSuchElementException::new);
+        eventService.cancelEnrollment(event, account);
+        return "redirect:/study/" + study.getPath() + "/events/" + event.getId();
+    }
+
     @DeleteMapping("/events/{eventId}")
     public String cancelEvent(@CurrentUser Account account, @PathVariable String path, @PathVariable Long eventId) {
         Study study = studyService.getStudyToUpdateStatus(account, path);
         eventService.deleteEvent(eventRepository.findById(eventId).orElseThrow(NoSuchElementException::new));
         return "redirect:/study/" + study.getPath() + "/events";
     }
+
+    private void addPastEvents(Model model, Study study, LocalDateTime now, LocalDateTime endDateTime, Long id, int offset) {
+        List<Event> oldEvents = eventRepository.findPastEvents(study, now, endDateTime, id, PageRequest.of(0, PAST_EVENTS_PAGE_SIZE + 1));
+        boolean hasMoreOldEvents = oldEvents.size() > PAST_EVENTS_PAGE_SIZE;
+        if (hasMoreOldEvents) {
+            oldEvents = oldEvents.subList(0, PAST_EVENTS_PAGE_SIZE);
+        }
+        model.addAttribute("oldEvents", oldEvents);
+        model.addAttribute("hasMoreOldEvents", hasMoreOldEvents);
+        model.addAttribute("offset", offset);
+    }
 }
@@ -2,17 +2,71 @@ package com.studyolleh.event;
 
 import com.studyolleh.domain.Event;
 import com.studyolleh.domain.Study;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 @Transactional(readOnly = true)
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-    List<Event> findByStudyOrderByStartDateTime(Study study);
+    List<Event> findByStudyAndEndDateTimeGreaterThanEqualOrderByStartDateTime(Study study, LocalDateTime now);
+
+    @Query("select e from Event e where e.study = :study and e.endDateTime < :now " +
+           "and (e.endDateTime < :endDateTime or (e.endDateTime = :endDateTime and e.id < :id)) " +
+           "order by e.endDateTime desc, e.id desc")
+    List<Event> findPastEvents(@Param("study") Study study, @Param("now") LocalDateTime now,
+                               @Param("endDateTime") LocalDateTime endDateTime, @Param("id") Long id,
+                               Pageable pageable);
+
+    long countByStudyAndEndDateTimeBefore(Study study, LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + 1 " +
+           "where e.id = :id and e.acceptedCount < e.limitOfEnrollments")
+    int acceptSpot(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount - 1 where e.id = :id and e.acceptedCount > 0")
+    int releaseSpot(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + 1, e.waitingCount = e.waitingCount - 1 " +
+           "where e.id = :id and e.acceptedCount < e.limitOfEnrollments and e.waitingCount > 0")
+    int promoteWaiting(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.waitingCount = e.waitingCount + 1 where e.id = :id")
+    int addWaiting(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.waitingCount = e.waitingCount - 1 where e.id = :id and e.waitingCount > 0")
+    int removeWaiting(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id = :id")
+    Event findWithLockById(@Param("id") Long id);
+
+    @Query("select e.id from Event e")
+    List<Long> findAllIds();
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = :acceptedCount, e.waitingCount = :waitingCount where e.id = :id")
+    int updateEnrollmentCounts(@Param("id") Long id, @Param("acceptedCount") int acceptedCount,
+                               @Param("waitingCount") int waitingCount);
 }
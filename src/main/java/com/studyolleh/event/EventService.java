@@ -1,7 +1,9 @@
 package com.studyolleh.event;
 
 import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Enrollment;
 import com.studyolleh.domain.Event;
+import com.studyolleh.domain.EventType;
 import com.studyolleh.domain.Study;
 import com.studyolleh.event.form.EventForm;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import java.time.LocalDateTime;
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
     private final ModelMapper modelMapper;
 
     public Event createEvent(Event event, Study study, Account account) {
@@ -27,10 +30,72 @@ public class EventService {
     }
 
     public void updateEvent(Event event, EventForm eventForm) {
+        eventRepository.findWithLockById(event.getId());
         modelMapper.map(eventForm, event);
+        acceptWaitingEnrollments(event);
     }
 
     public void deleteEvent(Event event) {
+        eventRepository.findWithLockById(event.getId());
+        enrollmentRepository.deleteByEventInBulk(event);
         eventRepository.delete(event);
     }
+
+    public void newEnrollment(Event event, Account account) {
+        if (!event.isNotClosed() || enrollmentRepository.existsByEventAndAccount(event, account)) {
+            return;
+        }
+        boolean accepted = event.getEventType() == EventType.FCFS && eventRepository.acceptSpot(event.getId()) == 1;
+        if (!accepted) {
+            eventRepository.addWaiting(event.getId());
+        }
+        enrollmentRepository.saveAndFlush(Enrollment.builder()
+                                                    .event(event)
+                                                    .account(account)
+                                                    .enrolledAt(LocalDateTime.now())
+                                                    .accepted(accepted)
+                                                    .build());
+    }
+
+    public void cancelEnrollment(Event event, Account account) {
+        Event lockedEvent = eventRepository.findWithLockById(event.getId());
+        if (lockedEvent == null) {
+            return;
+        }
+        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(lockedEvent, account);
+        if (enrollment == null || enrollment.isAttended()) {
+            return;
+        }
+        if (enrollmentRepository.deleteNotAttended(enrollment.getId(), false) == 1) {
+            eventRepository.removeWaiting(lockedEvent.getId());
+        } else if (enrollmentRepository.deleteNotAttended(enrollment.getId(), true) == 1) {
+            eventRepository.releaseSpot(lockedEvent.getId());
+            acceptWaitingEnrollments(lockedEvent);
+        }
+    }
+
+    public boolean repairEnrollmentCounts(Long eventId) {
+        Event event = eventRepository.findWithLockById(eventId);
+        if (event == null) {
+            return false;
+        }
+        int acceptedCount = enrollmentRepository.countByEventAndAccepted(event, true);
+        int waitingCount = enrollmentRepository.countByEventAndAccepted(event, false);
+        if (event.getAcceptedCount() == acceptedCount && event.getWaitingCount() == waitingCount) {
+            return false;
+        }
+        eventRepository.updateEnrollmentCounts(eventId, acceptedCount, waitingCount);
+        return true;
+    }
+
+    private void acceptWaitingEnrollments(Event event) {
+        if (event.getEventType() != EventType.FCFS) {
+            return;
+        }
+        Enrollment waiting;
+        while ((waiting = enrollmentRepository.findFirstByEventAndAcceptedOrderByEnrolledAtAsc(event, false)) != null
+                && eventRepository.promoteWaiting(event.getId()) == 1) {
+            waiting.setAccepted(true);
+        }
+    }
 }
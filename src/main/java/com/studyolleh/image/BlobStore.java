@@ -0,0 +1,17 @@
+package com.studyolleh.image;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface BlobStore {
+
+    String put(byte[] content);
+
+    String put(InputStream input, long maxSize);
+
+    void put(String key, byte[] content);
+
+    Optional<byte[]> get(String key);
+
+    boolean exists(String key);
+}
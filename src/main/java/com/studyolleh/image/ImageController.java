@@ -0,0 +1,34 @@
+package com.studyolleh.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ImageService imageService;
+
+    @GetMapping("/images/{hash:[0-9a-f]{64}}")
+    @ResponseBody
+    public ResponseEntity<byte[]> image(@PathVariable String hash, @RequestParam(required = false) Integer size) {
+        return imageService.find(hash, size)
+                           .map(image -> ResponseEntity.ok()
+                                                       .header(HttpHeaders.CACHE_CONTROL, image.isPending()
+                                                               ? CacheControl.noCache().getHeaderValue()
+                                                               : IMMUTABLE_CACHE_CONTROL)
+                                                       .eTag(image.getKey())
+                                                       .contentType(image.getMediaType())
+                                                       .body(image.getContent()))
+                           .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,123 @@
+package com.studyolleh.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageService {
+
+    private static final String DATA_URL_PREFIX = "data:image/";
+    private static final String BASE64_MARKER = ";base64,";
+
+    public static final long MAX_UPLOAD_SIZE = 2 * 1024 * 1024;
+    public static final long MAX_PIXELS = 16_000_000;
+    public static final int BANNER_MAX_WIDTH = 1300;
+    public static final int PROFILE_IMAGE_MAX_WIDTH = 500;
+
+    private final BlobStore blobStore;
+    private final ImageVariantService imageVariantService;
+
+    public boolean isDataUrl(String value) {
+        return value != null && value.startsWith(DATA_URL_PREFIX) && value.contains(BASE64_MARKER);
+    }
+
+    public String storeDataUrl(String dataUrl) {
+        if (!isDataUrl(dataUrl)) {
+            throw new IllegalArgumentException("이미지 형식이 올바르지 않습니다.");
+        }
+        int start = dataUrl.indexOf(BASE64_MARKER) + BASE64_MARKER.length();
+        checkUploadSize((long) (dataUrl.length() - start) / 4 * 3);
+        byte[] content = Base64.getDecoder().decode(dataUrl.substring(start));
+        try {
+            readWidth(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return blobStore.put(content);
+    }
+
+    public String storeUpload(MultipartFile file, int maxWidth) {
+        checkUploadSize(file.getSize());
+        try {
+            int width;
+            try (InputStream input = file.getInputStream()) {
+                width = readWidth(input);
+            }
+            if (width <= maxWidth) {
+                try (InputStream input = file.getInputStream()) {
+                    return blobStore.put(input, MAX_UPLOAD_SIZE);
+                }
+            }
+            try (InputStream input = file.getInputStream()) {
+                return blobStore.put(imageVariantService.resize(input, maxWidth));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void generateVariants(String hash) {
+        try {
+            imageVariantService.generateVariants(hash);
+        } catch (TaskRejectedException e) {
+            log.warn("image variant generation rejected: {}", hash);
+        }
+    }
+
+    public Optional<StoredImage> find(String hash, Integer size) {
+        if (size != null) {
+            String variantKey = ImageVariantService.variantKey(hash, size);
+            Optional<byte[]> variant = blobStore.get(variantKey);
+            if (variant.isPresent()) {
+                return Optional.of(new StoredImage(variantKey, variant.get(), false));
+            }
+            return blobStore.get(hash).map(content -> new StoredImage(hash, content, true));
+        }
+        return blobStore.get(hash).map(content -> new StoredImage(hash, content, false));
+    }
+
+    private int readWidth(InputStream input) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            Iterator<ImageReader> readers = imageInput == null
+                    ? Collections.emptyIterator() : ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IllegalArgumentException("이미지 크기가 너무 큽니다. " + MAX_PIXELS + " 픽셀보다 작은 이미지를 사용하세요.");
+                }
+                return width;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void checkUploadSize(long size) {
+        if (size > MAX_UPLOAD_SIZE) {
+            throw new IllegalArgumentException("이미지 파일이 너무 큽니다. " + MAX_UPLOAD_SIZE + " 바이트보다 작은 파일을 사용하세요.");
+        }
+    }
+}
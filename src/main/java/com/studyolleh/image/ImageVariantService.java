@@ -0,0 +1,113 @@
+package com.studyolleh.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    public static final int[] SIZES = {24, 64, 125, 640};
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final BlobStore blobStore;
+
+    public static String variantKey(String hash, int size) {
+        return hash + "-" + variantSizeFor(size);
+    }
+
+    public static int variantSizeFor(int requestedSize) {
+        for (int size : SIZES) {
+            if (size >= requestedSize) {
+                return size;
+            }
+        }
+        return SIZES[SIZES.length - 1];
+    }
+
+    @Async
+    public void generateVariants(String hash) {
+        byte[] original = blobStore.get(hash).orElse(null);
+        if (original == null) {
+            log.warn("image not found: {}", hash);
+            return;
+        }
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+            if (source == null) {
+                log.warn("unsupported image format: {}", hash);
+                return;
+            }
+            for (int size : SIZES) {
+                byte[] variant = source.getWidth() <= size ? original : encode(resize(source, size));
+                blobStore.put(variantKey(hash, size), variant);
+            }
+        } catch (IOException e) {
+            log.error("failed to generate image variants: {}", hash, e);
+        }
+    }
+
+    byte[] resize(InputStream input, int width) throws IOException {
+        BufferedImage source = ImageIO.read(input);
+        if (source == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+        return encode(resize(source, width));
+    }
+
+    private BufferedImage resize(BufferedImage source, int width) {
+        BufferedImage current = source;
+        int targetHeight = Math.max(1, source.getHeight() * width / source.getWidth());
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = currentWidth == width ? targetHeight : Math.max(targetHeight, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                    source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = next;
+        } while (currentWidth != width);
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (image.getColorModel().hasAlpha()) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
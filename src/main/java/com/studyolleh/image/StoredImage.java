@@ -0,0 +1,29 @@
+package com.studyolleh.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+
+@Getter
+@RequiredArgsConstructor
+public class StoredImage {
+
+    private final String key;
+
+    private final byte[] content;
+
+    private final boolean pending;
+
+    public MediaType getMediaType() {
+        try {
+            String contentType = URLConnection.guessContentTypeFromStream(new ByteArrayInputStream(content));
+            return contentType == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(contentType);
+        } catch (IOException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
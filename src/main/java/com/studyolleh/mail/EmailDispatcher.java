@@ -0,0 +1,65 @@
+package com.studyolleh.mail;
+
+import com.studyolleh.domain.OutboxEmail;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDispatcher {
+
+    static final int BATCH_SIZE = 50;
+
+    private final EmailOutbox emailOutbox;
+    private final EmailService emailService;
+
+    @Scheduled(initialDelayString = "${app.mail-dispatch-interval:5000}",
+               fixedDelayString = "${app.mail-dispatch-interval:5000}")
+    public void dispatch() {
+        List<OutboxEmail> emails;
+        do {
+            emails = emailOutbox.claim(BATCH_SIZE);
+            if (!emails.isEmpty()) {
+                send(emails);
+            }
+        } while (emails.size() == BATCH_SIZE);
+    }
+
+    private void send(List<OutboxEmail> emails) {
+        List<EmailMessage> emailMessages = emails.stream()
+                                                 .map(email -> EmailMessage.builder()
+                                                                           .to(email.getRecipient())
+                                                                           .subject(email.getSubject())
+                                                                           .message(email.getMessage())
+                                                                           .build())
+                                                 .collect(Collectors.toList());
+        List<EmailSendResult> results;
+        try {
+            results = emailService.sendEmails(emailMessages);
+        } catch (RuntimeException e) {
+            log.error("failed to send {} emails", emails.size(), e);
+            emails.forEach(email -> emailOutbox.markFailed(email.getId(), e.getMessage()));
+            return;
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            OutboxEmail email = emails.get(i);
+            EmailSendResult result = results.get(i);
+            if (result.isSent()) {
+                sentIds.add(email.getId());
+            } else {
+                log.warn("failed to send email: {}", email.getId(), result.getException());
+                emailOutbox.markFailed(email.getId(), result.getException().getMessage());
+            }
+        }
+        emailOutbox.markSent(sentIds);
+    }
+}
@@ -0,0 +1,63 @@
+package com.studyolleh.mail;
+
+import com.studyolleh.domain.OutboxEmail;
+import com.studyolleh.domain.OutboxEmailStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    static final int MAX_ATTEMPTS = 5;
+    static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    static final Duration FIRST_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final OutboxEmailRepository outboxEmailRepository;
+
+    public void enqueue(EmailMessage emailMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEmailRepository.save(OutboxEmail.builder()
+                                              .recipient(emailMessage.getTo())
+                                              .subject(emailMessage.getSubject())
+                                              .message(emailMessage.getMessage())
+                                              .status(OutboxEmailStatus.PENDING)
+                                              .createdAt(now)
+                                              .nextAttemptAt(now)
+                                              .build());
+    }
+
+    public List<OutboxEmail> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxEmailRepository.findIdsToSend(OutboxEmailStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String claimToken = UUID.randomUUID().toString();
+        outboxEmailRepository.claim(ids, OutboxEmailStatus.PENDING, claimToken, now.plus(CLAIM_LEASE), now);
+        return outboxEmailRepository.findByClaimToken(claimToken);
+    }
+
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxEmailRepository.markSent(ids, OutboxEmailStatus.SENT, LocalDateTime.now());
+        }
+    }
+
+    public void markFailed(Long id, String error) {
+        outboxEmailRepository.findById(id).ifPresent(email -> {
+            Duration delay = FIRST_RETRY_DELAY.multipliedBy(1L << email.getAttempts());
+            email.failed(error, MAX_ATTEMPTS, LocalDateTime.now().plus(delay));
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.studyolleh.mail;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmailSendResult {
+
+    private final EmailMessage emailMessage;
+
+    private final Exception exception;
+
+    public static EmailSendResult sent(EmailMessage emailMessage) {
+        return new EmailSendResult(emailMessage, null);
+    }
+
+    public static EmailSendResult failed(EmailMessage emailMessage, Exception exception) {
+        return new EmailSendResult(emailMessage, exception);
+    }
+
+    public boolean isSent() {
+        return exception == null;
+    }
+}
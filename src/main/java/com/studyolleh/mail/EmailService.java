@@ -1,6 +1,22 @@
 package com.studyolleh.mail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface EmailService {
 
     void sendEmail(EmailMessage emailMessage);
+
+    default List<EmailSendResult> sendEmails(List<EmailMessage> emailMessages) {
+        List<EmailSendResult> results = new ArrayList<>(emailMessages.size());
+        for (EmailMessage emailMessage : emailMessages) {
+            try {
+                sendEmail(emailMessage);
+                results.add(EmailSendResult.sent(emailMessage));
+            } catch (RuntimeException e) {
+                results.add(EmailSendResult.failed(emailMessage, e));
+            }
+        }
+        return results;
+    }
 }
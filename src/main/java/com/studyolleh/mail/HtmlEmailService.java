@@ -7,8 +7,16 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Slf4j
 @Profile("dev")
@@ -16,21 +24,91 @@ import javax.mail.internet.MimeMessage;
 @RequiredArgsConstructor
 public class HtmlEmailService implements EmailService {
 
+    static final int MIN_MESSAGES_PER_TRANSPORT = 10;
+
     private final JavaMailSender javaMailSender;
+    private final SmtpTransportPool smtpTransportPool;
+
+    private final ExecutorService sendExecutor = Executors.newFixedThreadPool(SmtpTransportPool.POOL_SIZE);
 
     @Override
     public void sendEmail(EmailMessage emailMessage) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        EmailSendResult result = sendEmails(Collections.singletonList(emailMessage)).get(0);
+        if (!result.isSent()) {
+            throw new RuntimeException(result.getException());
+        }
+    }
+
+    @Override
+    public List<EmailSendResult> sendEmails(List<EmailMessage> emailMessages) {
+        int transports = Math.min(SmtpTransportPool.POOL_SIZE, emailMessages.size() / MIN_MESSAGES_PER_TRANSPORT);
+        if (transports <= 1) {
+            return sendThroughOneTransport(emailMessages);
+        }
+        int chunkSize = (emailMessages.size() + transports - 1) / transports;
+        List<List<EmailMessage>> chunks = new ArrayList<>();
+        List<Future<List<EmailSendResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < emailMessages.size(); from += chunkSize) {
+            List<EmailMessage> chunk = emailMessages.subList(from, Math.min(from + chunkSize, emailMessages.size()));
+            chunks.add(chunk);
+            futures.add(sendExecutor.submit(() -> sendThroughOneTransport(chunk)));
+        }
+        List<EmailSendResult> results = new ArrayList<>(emailMessages.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.addAll(futures.get(i).get());
+            } catch (InterruptedException | ExecutionException e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                log.error("failed to send {} emails", chunks.get(i).size(), e);
+                chunks.get(i).forEach(emailMessage -> results.add(EmailSendResult.failed(emailMessage, e)));
+            }
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    private List<EmailSendResult> sendThroughOneTransport(List<EmailMessage> emailMessages) {
+        List<EmailSendResult> results = new ArrayList<>(emailMessages.size());
         try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(emailMessage.getTo());
-            mimeMessageHelper.setSubject(emailMessage.getSubject());
-            mimeMessageHelper.setText(emailMessage.getMessage(), true);
-            javaMailSender.send(mimeMessage);
-            log.info("sent email: {}", emailMessage.getMessage());
+            smtpTransportPool.execute(transport -> {
+                for (EmailMessage emailMessage : emailMessages) {
+                    try {
+                        MimeMessage mimeMessage = createMimeMessage(emailMessage);
+                        transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                        log.info("sent email: {}", emailMessage.getMessage());
+                        results.add(EmailSendResult.sent(emailMessage));
+                    } catch (MessagingException e) {
+                        log.error("failed to send email", e);
+                        results.add(EmailSendResult.failed(emailMessage, e));
+                        if (!transport.isConnected()) {
+                            throw e;
+                        }
+                    }
+                }
+                return results;
+            });
         } catch (MessagingException e) {
-            log.error("failed to send email", e);
-            throw new RuntimeException(e);
+            log.error("smtp connection failed", e);
+            for (int i = results.size(); i < emailMessages.size(); i++) {
+                results.add(EmailSendResult.failed(emailMessages.get(i), e));
+            }
         }
+        return results;
+    }
+
+    private MimeMessage createMimeMessage(EmailMessage emailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(emailMessage.getTo());
+        mimeMessageHelper.setSubject(emailMessage.getSubject());
+        mimeMessageHelper.setText(emailMessage.getMessage(), true);
+        mimeMessage.saveChanges();
+        return mimeMessage;
     }
 }
@@ -0,0 +1,74 @@
+package com.studyolleh.mail;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class MailTemplateRenderer {
+
+    static final int TEMPLATE_CACHE_SIZE = 20;
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(INITIAL_BUFFER_SIZE));
+
+    public MailTemplateRenderer() {
+        this(new ClassLoaderTemplateResolver());
+    }
+
+    MailTemplateRenderer(ClassLoaderTemplateResolver templateResolver) {
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setResolvablePatterns(Collections.singleton("mail/*"));
+        templateResolver.setCacheable(true);
+
+        StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(TEMPLATE_CACHE_SIZE);
+
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setCacheManager(cacheManager);
+    }
+
+    public String render(String template, Map<String, Object> variables) {
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        Context context = new Context();
+        context.setVariables(variables);
+        templateEngine.process(template, context, buffer);
+        String rendered = buffer.toString();
+        if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+        return rendered;
+    }
+
+    public List<String> renderAll(String template, List<Map<String, Object>> variablesList) {
+        List<String> rendered = new ArrayList<>(variablesList.size());
+        for (Map<String, Object> variables : variablesList) {
+            rendered.add(render(template, variables));
+        }
+        return rendered;
+    }
+
+    ICache<TemplateCacheKey, TemplateModel> getTemplateCache() {
+        return templateEngine.getCacheManager().getTemplateCache();
+    }
+}
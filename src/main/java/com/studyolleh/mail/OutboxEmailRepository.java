@@ -0,0 +1,42 @@
+package com.studyolleh.mail;
+
+import com.studyolleh.domain.OutboxEmail;
+import com.studyolleh.domain.OutboxEmailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Transactional(readOnly = true)
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    @Query("select e.id from OutboxEmail e where e.status = :status and e.nextAttemptAt <= :now " +
+           "and (e.claimedUntil is null or e.claimedUntil < :now) order by e.id")
+    List<Long> findIdsToSend(@Param("status") OutboxEmailStatus status, @Param("now") LocalDateTime now,
+                             Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEmail e set e.claimToken = :claimToken, e.claimedUntil = :claimedUntil " +
+           "where e.id in :ids and e.status = :status and (e.claimedUntil is null or e.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("status") OutboxEmailStatus status,
+              @Param("claimToken") String claimToken, @Param("claimedUntil") LocalDateTime claimedUntil,
+              @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEmail e set e.status = :status, e.sentAt = :sentAt, e.claimToken = null, " +
+           "e.claimedUntil = null where e.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") OutboxEmailStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    List<OutboxEmail> findByClaimToken(String claimToken);
+}
@@ -0,0 +1,80 @@
+package com.studyolleh.mail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Profile("dev")
+@Component
+@RequiredArgsConstructor
+public class SmtpTransportPool {
+
+    static final int POOL_SIZE = 4;
+
+    private final JavaMailSenderImpl javaMailSender;
+
+    private final BlockingQueue<Transport> idleTransports = new LinkedBlockingQueue<>();
+    private final Semaphore permits = new Semaphore(POOL_SIZE);
+
+    public <T> T execute(TransportCallback<T> callback) throws MessagingException {
+        permits.acquireUninterruptibly();
+        Transport transport = idleTransports.poll();
+        try {
+            if (transport == null || !transport.isConnected()) {
+                close(transport);
+                transport = connect();
+            }
+            T result = callback.doInTransport(transport);
+            if (transport.isConnected()) {
+                idleTransports.offer(transport);
+                transport = null;
+            }
+            return result;
+        } finally {
+            close(transport);
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        Transport transport = javaMailSender.getSession().getTransport(javaMailSender.getProtocol());
+        transport.connect(javaMailSender.getHost(), javaMailSender.getPort(),
+                javaMailSender.getUsername(), javaMailSender.getPassword());
+        return transport;
+    }
+
+    private void close(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("failed to close smtp transport", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface TransportCallback<T> {
+
+        T doInTransport(Transport transport) throws MessagingException;
+    }
+}
@@ -1,18 +1,18 @@
 package com.studyolleh.settings;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolleh.account.AccountService;
 import com.studyolleh.account.CurrentUser;
 import com.studyolleh.domain.Account;
 import com.studyolleh.domain.Tag;
 import com.studyolleh.domain.Zone;
+import com.studyolleh.image.ImageService;
 import com.studyolleh.settings.form.*;
 import com.studyolleh.settings.validator.NicknameValidator;
 import com.studyolleh.settings.validator.PasswordFormValidator;
 import com.studyolleh.tag.TagRepository;
 import com.studyolleh.tag.TagService;
-import com.studyolleh.zone.ZoneRepository;
+import com.studyolleh.zone.ZoneRegistry;
+import com.studyolleh.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +21,7 @@ import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
@@ -37,8 +38,9 @@ public class SettingsController {
     private final NicknameValidator nicknameValidator;
     private final TagService tagService;
     private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper;
+    private final ZoneService zoneService;
+    private final ZoneRegistry zoneRegistry;
+    private final ImageService imageService;
 
     static final String ROOT = "/";
 
@@ -79,12 +81,23 @@ public class SettingsController {
 
     @PostMapping(SETTINGS_PROFILE_URL)
     public String updateProfile(@CurrentUser Account account, @Valid @ModelAttribute Profile profile, Errors errors,
+                                @RequestParam(required = false) MultipartFile profileImageFile,
                                 Model model, RedirectAttributes attributes) {
+        String uploadedImage = null;
+        try {
+            if (profileImageFile != null && !profileImageFile.isEmpty()) {
+                uploadedImage = imageService.storeUpload(profileImageFile, ImageService.PROFILE_IMAGE_MAX_WIDTH);
+            } else if (imageService.isDataUrl(profile.getProfileImage())) {
+                uploadedImage = imageService.storeDataUrl(profile.getProfileImage());
+            }
+        } catch (IllegalArgumentException e) {
+            errors.rejectValue("profileImage", "wrong.value", e.getMessage());
+        }
         if (errors.hasErrors()) {
             model.addAttribute(account);
             return SETTINGS_PROFILE_VIEW_NAME;
         }
-        accountService.updateProfile(account, profile);
+        accountService.updateProfile(account, profile, uploadedImage);
         attributes.addFlashAttribute("message", "프로필을 수정했습니다.");
         return "redirect:" + SETTINGS_PROFILE_URL;
     }
@@ -147,12 +160,12 @@ public class SettingsController {
     }
 
     @GetMapping(SETTINGS_TAGS_URL)
-    public String tagsUpdateForm(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String tagsUpdateForm(@CurrentUser Account account, Model model) {
         model.addAttribute(account);
         Set<Tag> tags = accountService.getTags(account);
         model.addAttribute("tags", tags.stream().map(Tag::getTitle).collect(Collectors.toList()));
-        List<String> allTags = tagRepository.findAll().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTags));
+        model.addAttribute("tagCount", tags.size());
+        model.addAttribute("zoneCount", accountService.countZones(account));
         return SETTINGS_TAGS_VIEW_NAME;
     }
 
@@ -178,22 +191,27 @@ public class SettingsController {
                             .orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    @PostMapping(SETTINGS_TAGS_URL + "/batch")
+    @ResponseBody
+    public ResponseEntity<List<String>> updateTags(@CurrentUser Account account, @Valid @RequestBody TagBatchForm tagBatchForm) {
+        return ResponseEntity.ok(accountService.updateTags(account, tagBatchForm.getAdd(), tagBatchForm.getRemove()));
+    }
+
     @GetMapping(SETTINGS_ZONES_URL)
-    public String zonesUpdateForm(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String zonesUpdateForm(@CurrentUser Account account, Model model) {
         model.addAttribute(account);
         Set<Zone> zones = accountService.getZones(account);
         model.addAttribute("zones", zones.stream().map(Zone::toString).collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream()
-                                                        .map(Zone::toString)
-                                                        .collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("tagCount", accountService.countTags(account));
+        model.addAttribute("zoneCount", zones.size());
+        model.addAttribute("whitelist", zoneRegistry.getWhitelist());
         return SETTINGS_ZONES_VIEW_NAME;
     }
 
     @PostMapping(SETTINGS_ZONES_URL + "/add")
     @ResponseBody
     public ResponseEntity addZones(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        return zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        return zoneService.findZone(zoneForm.getCityName(), zoneForm.getProvinceName())
                              .map(zone -> {
                                  accountService.addZone(account, zone);
                                  return ResponseEntity.ok().build();
@@ -204,11 +222,17 @@ public class SettingsController {
     @PostMapping(SETTINGS_ZONES_URL + "/remove")
     @ResponseBody
     public ResponseEntity removeZones(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        return zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        return zoneService.findZone(zoneForm.getCityName(), zoneForm.getProvinceName())
                              .map(zone -> {
                                  accountService.removeZone(account, zone);
                                  return ResponseEntity.ok().build();
                              })
                              .orElseGet(() -> ResponseEntity.badRequest().build());
     }
+
+    @PostMapping(SETTINGS_ZONES_URL + "/batch")
+    @ResponseBody
+    public ResponseEntity<List<String>> updateZones(@CurrentUser Account account, @Valid @RequestBody ZoneBatchForm zoneBatchForm) {
+        return ResponseEntity.ok(accountService.updateZones(account, zoneBatchForm.getAdd(), zoneBatchForm.getRemove()));
+    }
 }
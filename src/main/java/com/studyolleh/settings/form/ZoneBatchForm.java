@@ -0,0 +1,19 @@
+package com.studyolleh.settings.form;
+
+import lombok.Data;
+
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ZoneBatchForm {
+
+    public static final int MAX_BATCH_SIZE = 50;
+
+    @Size(max = MAX_BATCH_SIZE)
+    private List<String> add = new ArrayList<>();
+
+    @Size(max = MAX_BATCH_SIZE)
+    private List<String> remove = new ArrayList<>();
+}
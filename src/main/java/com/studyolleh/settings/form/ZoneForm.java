@@ -1,9 +1,13 @@
 package com.studyolleh.settings.form;
 
 import com.studyolleh.domain.Zone;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ZoneForm {
 
     private String zoneName;
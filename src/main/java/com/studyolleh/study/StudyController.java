@@ -25,7 +25,6 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class StudyController {
 
-    private final StudyRepository studyRepository;
     private final StudyService studyService;
     private final ModelMapper modelMapper;
     private final StudyFormValidator studyFormValidator;
@@ -57,7 +56,7 @@ public class StudyController {
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentUser Account account, @PathVariable String path, Model model) {
         model.addAttribute(account);
-        model.addAttribute(studyService.getStudy(path));
+        model.addAttribute(studyService.getStudyWithContent(path));
         return "study/view";
     }
 
@@ -70,14 +69,14 @@ public class StudyController {
 
     @GetMapping("/study/{path}/join")
     public String joinStudy(@CurrentUser Account account, @PathVariable String path) throws UnsupportedEncodingException {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudyToUpdateMember(path);
         studyService.addMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
 
     @GetMapping("/study/{path}/leave")
     public String leaveStudy(@CurrentUser Account account, @PathVariable String path) throws UnsupportedEncodingException {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudyToUpdateMember(path);
         studyService.removeMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
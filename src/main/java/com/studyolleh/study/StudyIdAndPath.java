@@ -0,0 +1,8 @@
+package com.studyolleh.study;
+
+public interface StudyIdAndPath {
+
+    Long getId();
+
+    String getPath();
+}
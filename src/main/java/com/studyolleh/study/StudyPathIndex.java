@@ -0,0 +1,83 @@
+package com.studyolleh.study;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolleh.config.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class StudyPathIndex {
+
+    private final StudyRepository studyRepository;
+
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+
+    private final Cache<String, Boolean> missingPaths = Caffeine.newBuilder()
+                                                                 .expireAfterWrite(Duration.ofMinutes(1))
+                                                                 .maximumSize(10_000)
+                                                                 .build();
+
+    @PostConstruct
+    public void initIndex() {
+        studyRepository.findAllPaths().forEach(study -> ids.put(study.getPath(), study.getId()));
+    }
+
+    public Optional<Long> findId(String path) {
+        Long id = ids.get(path);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        if (missingPaths.getIfPresent(path) != null) {
+            return Optional.empty();
+        }
+        Long found = studyRepository.findIdByPath(path);
+        if (found == null) {
+            missingPaths.put(path, Boolean.TRUE);
+        } else {
+            ids.put(path, found);
+        }
+        return Optional.ofNullable(found);
+    }
+
+    public boolean exists(String path) {
+        Optional<Long> id = findId(path);
+        if (id.isPresent() && !id.get().equals(studyRepository.findIdByPath(path))) {
+            evict(path, id.get());
+            return findId(path).isPresent();
+        }
+        return id.isPresent();
+    }
+
+    public void evict(String path, Long id) {
+        ids.remove(path, id);
+    }
+
+    public void add(String path, Long id) {
+        missingPaths.invalidate(path);
+        AfterCommit.run(() -> {
+            missingPaths.invalidate(path);
+            ids.put(path, id);
+        });
+    }
+
+    public void move(String oldPath, String newPath, Long id) {
+        missingPaths.invalidate(newPath);
+        AfterCommit.run(() -> {
+            ids.remove(oldPath, id);
+            missingPaths.invalidate(newPath);
+            ids.put(newPath, id);
+        });
+    }
+
+    public void remove(String path, Long id) {
+        AfterCommit.run(() -> ids.remove(path, id));
+    }
+}
@@ -3,27 +3,41 @@ package com.studyolleh.study;
 import com.studyolleh.domain.Study;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Repository
 @Transactional(readOnly = true)
 public interface StudyRepository extends JpaRepository<Study, Long> {
 
-    boolean existsByPath(String path);
-
     @EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
     Study findByPath(String path);
 
+    @Query("select s.id as id, s.path as path from Study s")
+    List<StudyIdAndPath> findAllPaths();
+
+    @Query("select s.id from Study s where s.path = :path")
+    Long findIdByPath(@Param("path") String path);
+
+    @EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
+    Study findStudyWithAllById(Long id);
+
+    @EntityGraph(attributePaths = {"tags", "zones", "managers", "members", "content"})
+    Study findStudyWithContentById(Long id);
+
     @EntityGraph(attributePaths = {"tags", "managers"})
-    Study findStudyWithTagsByPath(String path);
+    Study findStudyWithTagsById(Long id);
 
     @EntityGraph(attributePaths = {"zones", "managers"})
-    Study findStudyWithZonesByPath(String path);
+    Study findStudyWithZonesById(Long id);
 
     @EntityGraph(attributePaths = "managers")
-    Study findStudyWithManagersByPath(String path);
+    Study findStudyWithManagersById(Long id);
 
     @EntityGraph(attributePaths = "members")
-    Study findStudyWithMembersByPath(String path);
+    Study findStudyWithMembersById(Long id);
 }
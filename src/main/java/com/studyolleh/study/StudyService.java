@@ -4,15 +4,24 @@ import com.studyolleh.domain.Account;
 import com.studyolleh.domain.Study;
 import com.studyolleh.domain.Tag;
 import com.studyolleh.domain.Zone;
+import com.studyolleh.image.ImageService;
 import com.studyolleh.study.form.StudyDescriptionForm;
+import com.studyolleh.tag.TagService;
+import com.studyolleh.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import static com.studyolleh.study.form.StudyForm.VALID_PATH_PATTERN;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -22,9 +31,18 @@ public class StudyService {
 
     private final ModelMapper modelMapper;
 
+    private final ImageService imageService;
+
+    private final StudyPathIndex studyPathIndex;
+
+    private final TagService tagService;
+
+    private final ZoneService zoneService;
+
     public Study createNewStudy(Study study, Account account) {
         Study newStudy = studyRepository.save(study);
         newStudy.addManager(account);
+        studyPathIndex.add(newStudy.getPath(), newStudy.getId());
         return newStudy;
     }
 
@@ -35,28 +53,31 @@ public class StudyService {
     }
 
     public Study getStudyToUpdateStatus(Account account, String path) {
-        Study study = studyRepository.findStudyWithManagersByPath(path);
-        checkIfExistingStudy(path, study);
+        Study study = findStudy(path, studyRepository::findStudyWithManagersById);
         checkIfManager(account, study);
         return study;
     }
 
     public Study getStudy(String path) {
-        Study study = this.studyRepository.findByPath(path);
-        checkIfExistingStudy(path, study);
-        return study;
+        return findStudy(path, studyRepository::findStudyWithAllById);
+    }
+
+    public Study getStudyWithContent(String path) {
+        return findStudy(path, studyRepository::findStudyWithContentById);
+    }
+
+    public Study getStudyToUpdateMember(String path) {
+        return findStudy(path, studyRepository::findStudyWithMembersById);
     }
 
     public Study getStudyToUpdateTag(Account account, String path) {
-        Study study = studyRepository.findStudyWithTagsByPath(path);
-        checkIfExistingStudy(path, study);
+        Study study = findStudy(path, studyRepository::findStudyWithTagsById);
         checkIfManager(account, study);
         return study;
     }
 
     public Study getStudyToUpdateZone(Account account, String path) {
-        Study study = studyRepository.findStudyWithZonesByPath(path);
-        checkIfExistingStudy(path, study);
+        Study study = findStudy(path, studyRepository::findStudyWithZonesById);
         checkIfManager(account, study);
         return study;
     }
@@ -66,7 +87,16 @@ public class StudyService {
     }
 
     public void updateStudyImage(Study study, String image) {
-        study.setImage(image);
+        if (!StringUtils.hasText(image)) {
+            study.setImage(null);
+            return;
+        }
+        changeStudyImage(study, imageService.storeDataUrl(image));
+    }
+
+    public void changeStudyImage(Study study, String hash) {
+        study.setImage(hash);
+        imageService.generateVariants(hash);
     }
 
     public void enableStudyBanner(Study study) {
@@ -82,11 +112,27 @@ public class StudyService {
     }
 
     public void addTag(Study study, Tag tag) {
-        study.getTags().add(tag);
+        if (study.getTags().add(tag)) {
+            tagService.use(tag);
+        }
     }
 
     public void removeTag(Study study, Tag tag) {
-        study.getTags().remove(tag);
+        if (study.getTags().remove(tag)) {
+            tagService.release(tag);
+        }
+    }
+
+    public List<String> updateTags(Study study, Collection<String> titlesToAdd, Collection<String> titlesToRemove) {
+        tagService.findOrCreateAll(titlesToAdd).stream().filter(study.getTags()::add).forEach(tagService::use);
+        tagService.findAll(titlesToRemove).stream().filter(study.getTags()::remove).forEach(tagService::release);
+        return study.getTags().stream().map(Tag::getTitle).sorted().collect(Collectors.toList());
+    }
+
+    public List<String> updateZones(Study study, Collection<String> zoneNamesToAdd, Collection<String> zoneNamesToRemove) {
+        study.getZones().addAll(zoneService.findZones(zoneNamesToAdd));
+        study.getZones().removeAll(zoneService.findZones(zoneNamesToRemove));
+        return study.getZones().stream().map(Zone::toString).sorted().collect(Collectors.toList());
     }
 
     public void addZone(Study study, Zone zone) {
@@ -114,7 +160,9 @@ public class StudyService {
     }
 
     public void updateStudyPath(Study study, String newPath) {
+        String oldPath = study.getPath();
         study.setPath(newPath);
+        studyPathIndex.move(oldPath, newPath, study.getId());
     }
 
     public void updateStudyTitle(Study study, String newTitle) {
@@ -125,7 +173,7 @@ public class StudyService {
         if (!newPath.matches(VALID_PATH_PATTERN)) {
             return false;
         }
-        return !this.studyRepository.existsByPath(newPath);
+        return !studyPathIndex.exists(newPath);
     }
 
     public boolean isValidTitle(String newTitle) {
@@ -135,6 +183,7 @@ public class StudyService {
     public void removeStudy(Study study) {
         if (study.isRemovable()) {
             studyRepository.delete(study);
+            studyPathIndex.remove(study.getPath(), study.getId());
         } else {
             throw new IllegalArgumentException("스터디를 삭제할 수 없습니다.");
         }
@@ -148,6 +197,18 @@ public class StudyService {
         study.removeMember(account);
     }
 
+    private Study findStudy(String path, Function<Long, Study> findById) {
+        Optional<Long> indexedId = studyPathIndex.findId(path);
+        Study study = indexedId.map(findById).orElse(null);
+        if (indexedId.isPresent() && (study == null || !path.equals(study.getPath()))) {
+            studyPathIndex.evict(path, indexedId.get());
+            Long id = studyRepository.findIdByPath(path);
+            study = id == null ? null : findById.apply(id);
+        }
+        checkIfExistingStudy(path, study);
+        return study;
+    }
+
     private void checkIfExistingStudy(String path, Study study) {
         if (study == null) {
             throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
@@ -1,25 +1,29 @@
 package com.studyolleh.study;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolleh.account.CurrentUser;
 import com.studyolleh.domain.Account;
 import com.studyolleh.domain.Study;
 import com.studyolleh.domain.Tag;
 import com.studyolleh.domain.Zone;
+import com.studyolleh.image.ImageService;
+import com.studyolleh.settings.form.TagBatchForm;
 import com.studyolleh.settings.form.TagForm;
+import com.studyolleh.settings.form.ZoneBatchForm;
 import com.studyolleh.settings.form.ZoneForm;
 import com.studyolleh.study.form.StudyDescriptionForm;
 import com.studyolleh.tag.TagRepository;
 import com.studyolleh.tag.TagService;
-import com.studyolleh.zone.ZoneRepository;
+import com.studyolleh.zone.ZoneRegistry;
+import com.studyolleh.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
@@ -37,9 +41,10 @@ public class StudySettingsController {
     private final StudyService studyService;
     private final TagService tagService;
     private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
+    private final ZoneService zoneService;
+    private final ZoneRegistry zoneRegistry;
     private final ModelMapper modelMapper;
-    private final ObjectMapper objectMapper;
+    private final ImageService imageService;
 
     @GetMapping("/description")
     public String viewStudySetting(@CurrentUser Account account, @PathVariable String path, Model model) {
@@ -78,8 +83,27 @@ public class StudySettingsController {
                                    String image, RedirectAttributes attributes) throws UnsupportedEncodingException {
 
         Study study = studyService.getStudyToUpdate(account, path);
-        studyService.updateStudyImage(study, image);
-        attributes.addFlashAttribute("message", "스터디 배너를 수정했습니다.");
+        try {
+            studyService.updateStudyImage(study, image);
+            attributes.addFlashAttribute("message", "스터디 배너를 수정했습니다.");
+        } catch (IllegalArgumentException e) {
+            attributes.addFlashAttribute("message", e.getMessage());
+        }
+        return "redirect:/study/" + getPath(path) + "/settings/banner";
+    }
+
+    @PostMapping(value = "/banner", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public String studyImageUpload(@CurrentUser Account account, @PathVariable String path,
+                                   @RequestParam MultipartFile imageFile, RedirectAttributes attributes)
+                                   throws UnsupportedEncodingException {
+
+        Study study = studyService.getStudyToUpdate(account, path);
+        try {
+            studyService.changeStudyImage(study, imageService.storeUpload(imageFile, ImageService.BANNER_MAX_WIDTH));
+            attributes.addFlashAttribute("message", "스터디 배너를 수정했습니다.");
+        } catch (IllegalArgumentException e) {
+            attributes.addFlashAttribute("message", e.getMessage());
+        }
         return "redirect:/study/" + getPath(path) + "/settings/banner";
     }
 
@@ -99,18 +123,14 @@ public class StudySettingsController {
 
     @GetMapping("/tags")
     public String studyTagsForm(@CurrentUser Account account,
-                                @PathVariable String path, Model model) throws JsonProcessingException {
+                                @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdate(account, path);
         List<String> allTagTitlesInStudy = studyService.getAllTags(study).stream()
                                                                          .map(Tag::getTitle)
                                                                          .collect(Collectors.toList());
-        List<String> allTagTitles = tagRepository.findAll().stream()
-                                                           .map(Tag::getTitle)
-                                                           .collect(Collectors.toList());
         model.addAttribute(account);
         model.addAttribute(study);
         model.addAttribute("tags", allTagTitlesInStudy);
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTagTitles));
         return "study/settings/tags";
     }
 
@@ -139,20 +159,25 @@ public class StudySettingsController {
                             .orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    @PostMapping("/tags/batch")
+    @ResponseBody
+    public ResponseEntity<List<String>> updateStudyTags(@CurrentUser Account account, @PathVariable String path,
+                                                        @Valid @RequestBody TagBatchForm tagBatchForm) {
+        Study study = studyService.getStudyToUpdateTag(account, path);
+        return ResponseEntity.ok(studyService.updateTags(study, tagBatchForm.getAdd(), tagBatchForm.getRemove()));
+    }
+
     @GetMapping("/zones")
     public String studyZonesForm(@CurrentUser Account account,
-                                 @PathVariable String path, Model model) throws JsonProcessingException {
+                                 @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdateZone(account, path);
         List<String> allZonesInStudy = study.getZones().stream()
                                                        .map(Zone::toString)
                                                        .collect(Collectors.toList());
-        List<String> allZones = zoneRepository.findAll().stream()
-                                                        .map(Zone::toString)
-                                                        .collect(Collectors.toList());
         model.addAttribute(account);
         model.addAttribute(study);
         model.addAttribute("zones", allZonesInStudy);
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelist", zoneRegistry.getWhitelist());
         return "study/settings/zones";
     }
 
@@ -161,7 +186,7 @@ public class StudySettingsController {
     public ResponseEntity addZone(@CurrentUser Account account, @PathVariable String path,
                                   @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        return zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        return zoneService.findZone(zoneForm.getCityName(), zoneForm.getProvinceName())
                              .map(zone -> {
                                  studyService.addZone(study, zone);
                                  return ResponseEntity.ok().build();
@@ -174,7 +199,7 @@ public class StudySettingsController {
     public ResponseEntity removeZone(@CurrentUser Account account, @PathVariable String path,
                                      @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        return zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        return zoneService.findZone(zoneForm.getCityName(), zoneForm.getProvinceName())
                              .map(zone -> {
                                  studyService.removeZone(study, zone);
                                  return ResponseEntity.ok().build();
@@ -182,6 +207,14 @@ public class StudySettingsController {
                              .orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    @PostMapping("/zones/batch")
+    @ResponseBody
+    public ResponseEntity<List<String>> updateStudyZones(@CurrentUser Account account, @PathVariable String path,
+                                                         @Valid @RequestBody ZoneBatchForm zoneBatchForm) {
+        Study study = studyService.getStudyToUpdateZone(account, path);
+        return ResponseEntity.ok(studyService.updateZones(study, zoneBatchForm.getAdd(), zoneBatchForm.getRemove()));
+    }
+
     @GetMapping("/study")
     public String studySettingsForm(@CurrentUser Account account, @PathVariable String path, Model model) {
         model.addAttribute(account);
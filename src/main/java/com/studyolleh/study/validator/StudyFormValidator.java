@@ -1,6 +1,6 @@
 package com.studyolleh.study.validator;
 
-import com.studyolleh.study.StudyRepository;
+import com.studyolleh.study.StudyPathIndex;
 import com.studyolleh.study.form.StudyForm;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,7 +11,7 @@ import org.springframework.validation.Validator;
 @RequiredArgsConstructor
 public class StudyFormValidator implements Validator {
 
-    private final StudyRepository studyRepository;
+    private final StudyPathIndex studyPathIndex;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -21,7 +21,7 @@ public class StudyFormValidator implements Validator {
     @Override
     public void validate(Object target, Errors errors) {
         StudyForm studyForm = (StudyForm) target;
-        if (studyRepository.existsByPath(studyForm.getPath())) {
+        if (studyPathIndex.exists(studyForm.getPath())) {
             errors.rejectValue("path", "wrong.path", "스터디 경로를 사용할 수 없습니다.");
         }
     }
@@ -0,0 +1,28 @@
+package com.studyolleh.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Controller
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagSuggestIndex tagSuggestIndex;
+
+    @GetMapping("/tags/suggest")
+    @ResponseBody
+    public ResponseEntity<List<String>> suggest(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        int size = Math.max(1, Math.min(limit, TagSuggestIndex.MAX_SUGGESTIONS));
+        return ResponseEntity.ok()
+                             .cacheControl(CacheControl.maxAge(30, TimeUnit.SECONDS).cachePrivate())
+                             .body(tagSuggestIndex.suggest(q, size));
+    }
+}
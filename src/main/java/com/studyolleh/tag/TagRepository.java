@@ -2,14 +2,19 @@ package com.studyolleh.tag;
 
 import com.studyolleh.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
 @Transactional(readOnly = true)
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryExtension {
 
-    Optional<Tag> findByTitle(String title);
+    @Query("select t.title as title, count(a) as usageCount from Account a join a.tags t group by t.title")
+    List<TagUsage> countAccountUsages();
+
+    @Query("select t.title as title, count(s) as usageCount from Study s join s.tags t group by t.title")
+    List<TagUsage> countStudyUsages();
 }
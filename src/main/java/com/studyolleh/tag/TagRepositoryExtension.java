@@ -0,0 +1,12 @@
+package com.studyolleh.tag;
+
+import com.studyolleh.domain.Tag;
+
+import java.util.Optional;
+
+public interface TagRepositoryExtension {
+
+    Optional<Tag> findByTitle(String title);
+
+    boolean insertIfAbsent(String title);
+}
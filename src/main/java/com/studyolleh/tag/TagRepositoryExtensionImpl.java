@@ -0,0 +1,58 @@
+package com.studyolleh.tag;
+
+import com.studyolleh.domain.Tag;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Savepoint;
+import java.util.Optional;
+
+public class TagRepositoryExtensionImpl implements TagRepositoryExtension {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Tag> findByTitle(String title) {
+        return entityManager.unwrap(Session.class)
+                            .bySimpleNaturalId(Tag.class)
+                            .loadOptional(title);
+    }
+
+    @Override
+    public boolean insertIfAbsent(String title) {
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        boolean inserted = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (StatelessSession statelessSession = sessionFactory.openStatelessSession(connection)) {
+                statelessSession.setJdbcBatchSize(1);
+                statelessSession.insert(Tag.builder().title(title).build());
+                connection.releaseSavepoint(savepoint);
+                return true;
+            } catch (ConstraintViolationException e) {
+                connection.rollback(savepoint);
+                return false;
+            }
+        });
+        if (inserted && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        Cache cache = sessionFactory.getCache();
+                        cache.evictEntityData(Tag.class);
+                        cache.evictNaturalIdData(Tag.class);
+                    }
+                }
+            });
+        }
+        return inserted;
+    }
+}
@@ -5,17 +5,52 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TagService {
 
     private final TagRepository tagRepository;
-
+    private final TagSuggestIndex tagSuggestIndex;
 
     public Tag findOrCreateNew(String title) {
-        return tagRepository.findByTitle(title).orElseGet(() -> tagRepository.save(Tag.builder()
-                                                                                      .title(title)
-                                                                                      .build()));
+        return tagRepository.findByTitle(title).orElseGet(() -> {
+            tagRepository.insertIfAbsent(title);
+            return tagRepository.findByTitle(title)
+                                .orElseThrow(() -> new IllegalStateException(title + " 태그를 만들 수 없습니다."));
+        });
+    }
+
+    public List<Tag> findOrCreateAll(Collection<String> titles) {
+        Set<String> missingTitles = new LinkedHashSet<>(titles);
+        List<Tag> found = findAll(missingTitles);
+        found.forEach(tag -> missingTitles.remove(tag.getTitle()));
+        new TreeSet<>(missingTitles).forEach(tagRepository::insertIfAbsent);
+        missingTitles.forEach(title -> tagRepository.findByTitle(title).ifPresent(found::add));
+        return found;
+    }
+
+    public List<Tag> findAll(Collection<String> titles) {
+        return titles.stream()
+                     .map(tagRepository::findByTitle)
+                     .filter(Optional::isPresent)
+                     .map(Optional::get)
+                     .collect(Collectors.toList());
+    }
+
+    public void use(Tag tag) {
+        tagSuggestIndex.used(tag.getTitle());
+    }
+
+    public void release(Tag tag) {
+        tagSuggestIndex.released(tag.getTitle());
     }
 }
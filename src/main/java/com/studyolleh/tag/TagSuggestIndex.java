@@ -0,0 +1,176 @@
+package com.studyolleh.tag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolleh.config.AfterCommit;
+import com.studyolleh.domain.Tag;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class TagSuggestIndex {
+
+    static final int MAX_SUGGESTIONS = 20;
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int SHORT_PREFIX_LENGTH = 4;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String[] JUNGSEONG_JAMO = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final String[] JONGSEONG_JAMO = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        for (int i = 0; i < JUNGSEONG.length(); i++) {
+            COMPOUND_JAMO.put(JUNGSEONG.charAt(i), JUNGSEONG_JAMO[i]);
+        }
+        for (int i = 1; i < JONGSEONG.length(); i++) {
+            COMPOUND_JAMO.put(JONGSEONG.charAt(i), JONGSEONG_JAMO[i]);
+        }
+    }
+
+    private static final Comparator<Entry> BY_USAGE = Comparator.comparingLong(Entry::getUsage)
+                                                                .thenComparing(Entry::getTitle, Comparator.reverseOrder());
+
+    private final TagRepository tagRepository;
+
+    private volatile Index index = new Index();
+
+    private final Cache<String, List<String>> shortPrefixTops = Caffeine.newBuilder()
+                                                                        .maximumSize(10_000)
+                                                                        .build();
+
+    @PostConstruct
+    void initIndex() {
+        Index newIndex = new Index();
+        tagRepository.findAll().stream().map(Tag::getTitle).forEach(newIndex::entry);
+        tagRepository.countAccountUsages().forEach(usage -> newIndex.entry(usage.getTitle()).add(usage.getUsageCount()));
+        tagRepository.countStudyUsages().forEach(usage -> newIndex.entry(usage.getTitle()).add(usage.getUsageCount()));
+        index = newIndex;
+        shortPrefixTops.invalidateAll();
+    }
+
+    public List<String> suggest(String query, int limit) {
+        String prefix = normalize(query.trim());
+        if (prefix.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (prefix.length() > SHORT_PREFIX_LENGTH) {
+            return index.top(prefix, limit);
+        }
+        List<String> top = shortPrefixTops.get(prefix, key -> index.top(key, MAX_SUGGESTIONS));
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    public void used(String title) {
+        AfterCommit.run(() -> {
+            index.entry(title).add(1);
+            invalidateShortPrefixes(title);
+        });
+    }
+
+    public void released(String title) {
+        AfterCommit.run(() -> {
+            Entry entry = index.entries.get(title);
+            if (entry != null) {
+                entry.add(-1);
+                invalidateShortPrefixes(title);
+            }
+        });
+    }
+
+    private void invalidateShortPrefixes(String title) {
+        String normalized = normalize(title);
+        for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, normalized.length()); length++) {
+            shortPrefixTops.invalidate(normalized.substring(0, length));
+        }
+    }
+
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length() * 3);
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                int index = c - HANGUL_FIRST;
+                normalized.append(CHOSEONG.charAt(index / 588))
+                          .append(JUNGSEONG_JAMO[index % 588 / 28])
+                          .append(JONGSEONG_JAMO[index % 28]);
+            } else {
+                String jamo = COMPOUND_JAMO.get(c);
+                if (jamo != null) {
+                    normalized.append(jamo);
+                } else {
+                    normalized.append(c);
+                }
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static class Index {
+
+        private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<String, Entry> prefixIndex = new ConcurrentSkipListMap<>();
+
+        Entry entry(String title) {
+            return entries.computeIfAbsent(title, key -> {
+                Entry entry = new Entry(key);
+                prefixIndex.put(normalize(key) + KEY_SEPARATOR + key, entry);
+                return entry;
+            });
+        }
+
+        List<String> top(String prefix, int limit) {
+            PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, BY_USAGE);
+            for (Entry entry : prefixIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            return top.stream()
+                      .sorted(BY_USAGE.reversed())
+                      .map(Entry::getTitle)
+                      .collect(Collectors.toList());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+
+        private final String title;
+        private final AtomicLong count = new AtomicLong();
+
+        long getUsage() {
+            return count.get();
+        }
+
+        void add(long delta) {
+            count.updateAndGet(current -> Math.max(0, current + delta));
+        }
+    }
+}
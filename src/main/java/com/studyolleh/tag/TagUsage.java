@@ -0,0 +1,8 @@
+package com.studyolleh.tag;
+
+public interface TagUsage {
+
+    String getTitle();
+
+    Long getUsageCount();
+}
@@ -0,0 +1,61 @@
+package com.studyolleh.zone;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolleh.domain.Zone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ZoneRegistry {
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Registry registry = new Registry(Collections.emptyMap(), Collections.emptyMap(), "[]");
+
+    void register(List<Zone> zones) throws JsonProcessingException {
+        Map<Long, Zone> byId = new LinkedHashMap<>();
+        Map<String, Zone> byCityAndProvince = new LinkedHashMap<>();
+        for (Zone zone : zones) {
+            byId.put(zone.getId(), zone);
+            byCityAndProvince.put(key(zone.getCity(), zone.getProvince()), zone);
+        }
+        String whitelist = objectMapper.writeValueAsString(zones.stream()
+                                                                .map(Zone::toString)
+                                                                .collect(Collectors.toList()));
+        this.registry = new Registry(Collections.unmodifiableMap(byId),
+                                     Collections.unmodifiableMap(byCityAndProvince), whitelist);
+    }
+
+    public Optional<Zone> findById(Long id) {
+        return Optional.ofNullable(registry.byId.get(id));
+    }
+
+    public Optional<Zone> findByCityAndProvince(String city, String province) {
+        return Optional.ofNullable(registry.byCityAndProvince.get(key(city, province)));
+    }
+
+    public String getWhitelist() {
+        return registry.whitelist;
+    }
+
+    static String key(String city, String province) {
+        return city + "/" + province;
+    }
+
+    @RequiredArgsConstructor
+    private static class Registry {
+
+        private final Map<Long, Zone> byId;
+        private final Map<String, Zone> byCityAndProvince;
+        private final String whitelist;
+    }
+}
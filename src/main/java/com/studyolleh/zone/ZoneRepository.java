@@ -2,10 +2,14 @@ package com.studyolleh.zone;
 
 import com.studyolleh.domain.Zone;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.Optional;
+import javax.persistence.QueryHint;
+import java.util.List;
 
-public interface ZoneRepository extends JpaRepository<Zone, Long> {
+public interface ZoneRepository extends JpaRepository<Zone, Long>, ZoneRepositoryExtension {
 
-    Optional<Zone> findByCityAndProvince(String city, String province);
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<Zone> findAll();
 }
@@ -0,0 +1,10 @@
+package com.studyolleh.zone;
+
+import com.studyolleh.domain.Zone;
+
+import java.util.Optional;
+
+public interface ZoneRepositoryExtension {
+
+    Optional<Zone> findByCityAndProvince(String city, String province);
+}
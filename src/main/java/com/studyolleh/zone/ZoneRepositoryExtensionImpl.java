@@ -0,0 +1,29 @@
+package com.studyolleh.zone;
+
+import com.studyolleh.domain.Zone;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+public class ZoneRepositoryExtensionImpl implements ZoneRepositoryExtension {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Zone> findByCityAndProvince(String city, String province) {
+        if (province == null) {
+            return entityManager.createQuery("select z from Zone z where z.city = :city and z.province is null", Zone.class)
+                                .setParameter("city", city)
+                                .getResultStream()
+                                .findFirst();
+        }
+        return entityManager.unwrap(Session.class)
+                            .byNaturalId(Zone.class)
+                            .using("city", city)
+                            .using("province", province)
+                            .loadOptional();
+    }
+}
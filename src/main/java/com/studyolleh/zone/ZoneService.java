@@ -1,6 +1,7 @@
 package com.studyolleh.zone;
 
 import com.studyolleh.domain.Zone;
+import com.studyolleh.settings.form.ZoneForm;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
@@ -8,10 +9,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,23 +26,59 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ZoneService {
 
+    private static final String ZONE_NAME_PATTERN = "^[^(]+\\([^)]*\\)/.*$";
+
     private final ZoneRepository zoneRepository;
+    private final ZoneRegistry zoneRegistry;
 
     @PostConstruct
     public void initZoneData() throws IOException {
-        if (zoneRepository.count() == 0) {
-            Resource resource = new ClassPathResource("zones_kr.csv");
-            List<Zone> zoneList = Files.readAllLines(resource.getFile().toPath(), StandardCharsets.UTF_8)
-                                       .stream()
-                                       .map(line -> {
-                                            String[] split = line.split(",");
-                                            return Zone.builder()
-                                                       .city(split[0])
-                                                       .localNameOfCity(split[1])
-                                                       .province(split[2])
-                                                       .build();
-                                       }).collect(Collectors.toList());
-            zoneRepository.saveAll(zoneList);
+        Map<String, Zone> savedZones = zoneRepository.findAll().stream()
+                                                     .collect(Collectors.toMap(zone -> ZoneRegistry.key(zone.getCity(), zone.getProvince()),
+                                                                               Function.identity(), (a, b) -> a));
+        List<Zone> zones = new ArrayList<>();
+        List<Zone> newZones = new ArrayList<>();
+        for (Zone zone : readZones()) {
+            Zone savedZone = savedZones.get(ZoneRegistry.key(zone.getCity(), zone.getProvince()));
+            if (savedZone == null) {
+                newZones.add(zone);
+                zones.add(zone);
+            } else {
+                zones.add(savedZone);
+            }
+        }
+        zoneRepository.saveAll(newZones);
+        zoneRegistry.register(zones);
+    }
+
+    public Optional<Zone> findZone(String city, String province) {
+        Optional<Zone> zone = zoneRegistry.findByCityAndProvince(city, province)
+                                          .map(registered -> zoneRepository.getOne(registered.getId()));
+        return zone.isPresent() ? zone : zoneRepository.findByCityAndProvince(city, province);
+    }
+
+    public List<Zone> findZones(Collection<String> zoneNames) {
+        return zoneNames.stream()
+                        .filter(zoneName -> zoneName != null && zoneName.matches(ZONE_NAME_PATTERN))
+                        .map(ZoneForm::new)
+                        .map(zoneForm -> findZone(zoneForm.getCityName(), zoneForm.getProvinceName()))
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList());
+    }
+
+    private List<Zone> readZones() throws IOException {
+        Resource resource = new ClassPathResource("zones_kr.csv");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                         .map(line -> {
+                             String[] split = line.split(",");
+                             return Zone.builder()
+                                        .city(split[0])
+                                        .localNameOfCity(split[1])
+                                        .province(split[2])
+                                        .build();
+                         }).collect(Collectors.toList());
         }
     }
 }
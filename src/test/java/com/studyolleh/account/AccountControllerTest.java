@@ -1,20 +1,16 @@
 package com.studyolleh.account;
 
 import com.studyolleh.domain.Account;
-import com.studyolleh.mail.EmailMessage;
-import com.studyolleh.mail.EmailService;
+import com.studyolleh.mail.OutboxEmailRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.BDDMockito.then;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
@@ -32,8 +28,8 @@ class AccountControllerTest {
     @Autowired
     private AccountRepository accountRepository;
 
-    @MockBean
-    EmailService emailService;
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
 
     @DisplayName("회원 가입 화면 보이는지 테스트")
     @Test
@@ -76,7 +72,8 @@ class AccountControllerTest {
         assertNotNull(account.getEmailCheckToken());
 
         assertTrue(accountRepository.existsByEmail("sedin@kakao.com"));
-        then(emailService).should().sendEmail(any(EmailMessage.class));
+        assertTrue(outboxEmailRepository.findAll().stream()
+                                        .anyMatch(email -> email.getRecipient().equals("sedin@kakao.com")));
     }
 
     @DisplayName("인증 메일 확인 - 입력값 오류")
@@ -0,0 +1,70 @@
+package com.studyolleh.account;
+
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Tag;
+import com.studyolleh.tag.TagService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class AccountServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TagService tagService;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @DisplayName("같은 태그를 동시에 여러 번 추가")
+    @Test
+    void addTagConcurrently() throws Exception {
+        Account account = accountRepository.save(Account.builder()
+                                                        .nickname("sedin")
+                                                        .email("sedin@email.com")
+                                                        .password("12345678")
+                                                        .build());
+        Tag tag = tagService.findOrCreateNew(UUID.randomUUID().toString().substring(0, 8));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                accountService.addTag(account, tag);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertEquals(1, accountService.countTags(account));
+    }
+}
@@ -0,0 +1,84 @@
+package com.studyolleh.account;
+
+import com.studyolleh.WithAccount;
+import com.studyolleh.domain.Account;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+class CurrentUserArgumentResolverTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    CurrentAccountHolder currentAccountHolder;
+
+    @Autowired
+    AccountService accountService;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @DisplayName("비로그인 요청 - 현재 계정은 null")
+    @Test
+    void resolveAnonymous() throws Exception {
+        mockMvc.perform(get("/"))
+               .andExpect(status().isOk())
+               .andExpect(model().attributeDoesNotExist("account"));
+
+        assertNull(currentAccountHolder.getAccount());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("로그인 요청 - 요청 당 계정을 한 번만 조회")
+    @Test
+    void resolveOncePerRequest() throws Exception {
+        Statistics statistics = clearAndGetStatistics();
+
+        mockMvc.perform(get("/settings/tags"))
+               .andExpect(status().isOk())
+               .andExpect(model().attributeExists("account"));
+
+        assertEquals(1, statistics.getEntityStatistics(Account.class.getName()).getLoadCount());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("같은 요청 안의 서비스는 현재 계정을 재사용")
+    @Test
+    void shareAccountWithServices() {
+        Statistics statistics = clearAndGetStatistics();
+
+        Account account = currentAccountHolder.getAccount();
+
+        assertSame(account, currentAccountHolder.getAccount());
+        assertSame(account.getTags(), accountService.getTags(account));
+        assertSame(account.getZones(), accountService.getZones(account));
+        assertEquals(1, statistics.getEntityStatistics(Account.class.getName()).getLoadCount());
+    }
+
+    private Statistics clearAndGetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,136 @@
+package com.studyolleh.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+
+import javax.sql.DataSource;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CachingTokenRepositoryTest {
+
+    private static final String TOKEN_SQL = "select token from persistent_logins where series = ?";
+    private static final String LAST_USED_SQL = "select last_used from persistent_logins where series = ?";
+
+    @Autowired
+    CachingTokenRepository tokenRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DataSource dataSource;
+
+    @AfterEach
+    void afterEach() {
+        tokenRepository.removeUserTokens("sedin");
+    }
+
+    @DisplayName("토큰 값은 바로 저장하고 마지막 사용 시각만 flush 할 때 저장")
+    @Test
+    void updateTokenWriteBehind() {
+        Date created = new Date(System.currentTimeMillis() - 60_000);
+        Date used = new Date();
+        tokenRepository.createNewToken(new PersistentRememberMeToken("sedin", "series", "token-1", created));
+
+        tokenRepository.updateToken("series", "token-2", used);
+
+        assertEquals("token-2", tokenRepository.getTokenForSeries("series").getTokenValue());
+        assertEquals("token-2", jdbcTemplate.queryForObject(TOKEN_SQL, String.class, "series"));
+        assertEquals(created.getTime(), jdbcTemplate.queryForObject(LAST_USED_SQL, Date.class, "series").getTime());
+
+        tokenRepository.flush();
+
+        assertEquals(used.getTime(), jdbcTemplate.queryForObject(LAST_USED_SQL, Date.class, "series").getTime());
+    }
+
+    @DisplayName("flush 전에 재시작해도 갱신된 토큰으로 조회")
+    @Test
+    void updateTokenSurvivesRestart() {
+        tokenRepository.createNewToken(new PersistentRememberMeToken("sedin", "series", "token-1", new Date()));
+        tokenRepository.updateToken("series", "token-2", new Date());
+
+        CachingTokenRepository restarted = new CachingTokenRepository(dataSource);
+
+        assertEquals("token-2", restarted.getTokenForSeries("series").getTokenValue());
+    }
+
+    @DisplayName("저장 대기중인 갱신이 가득 차면 바로 저장")
+    @Test
+    void updateTokenWhenPendingUpdatesFull() {
+        CachingTokenRepository repository = new CachingTokenRepository(dataSource, new JdbcTokenRepositoryImpl(), 1);
+        Date created = new Date(System.currentTimeMillis() - 60_000);
+        Date used = new Date();
+        repository.createNewToken(new PersistentRememberMeToken("sedin", "series-1", "token-1", created));
+        repository.createNewToken(new PersistentRememberMeToken("sedin", "series-2", "token-1", created));
+
+        repository.updateToken("series-1", "token-2", used);
+        repository.updateToken("series-2", "token-2", used);
+
+        assertEquals(created.getTime(), jdbcTemplate.queryForObject(LAST_USED_SQL, Date.class, "series-1").getTime());
+        assertEquals(used.getTime(), jdbcTemplate.queryForObject(LAST_USED_SQL, Date.class, "series-2").getTime());
+    }
+
+    @DisplayName("사용자 토큰 삭제 시 저장 대기중인 갱신도 폐기")
+    @Test
+    void removeUserTokensDropsPendingUpdates() {
+        tokenRepository.createNewToken(new PersistentRememberMeToken("sedin", "series", "token-1", new Date()));
+        tokenRepository.updateToken("series", "token-2", new Date());
+
+        tokenRepository.removeUserTokens("sedin");
+        tokenRepository.flush();
+
+        assertNull(tokenRepository.getTokenForSeries("series"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from persistent_logins where username = ?", Integer.class, "sedin"));
+    }
+
+    @DisplayName("토큰 삭제 전에 읽은 토큰은 삭제 후 캐시에 남지 않음")
+    @Test
+    void removeUserTokensDuringLoad() throws Exception {
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch removed = new CountDownLatch(1);
+        AtomicBoolean firstLoad = new AtomicBoolean(true);
+        CachingTokenRepository repository = new CachingTokenRepository(dataSource, new JdbcTokenRepositoryImpl() {
+            @Override
+            public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+                PersistentRememberMeToken token = super.getTokenForSeries(seriesId);
+                if (firstLoad.getAndSet(false)) {
+                    loaded.countDown();
+                    try {
+                        removed.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return token;
+            }
+        }, CachingTokenRepository.MAX_PENDING_UPDATES);
+        jdbcTemplate.update("insert into persistent_logins (username, series, token, last_used) values (?, ?, ?, ?)",
+                "sedin", "series", "token-1", new Date());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<PersistentRememberMeToken> read = executor.submit(() -> repository.getTokenForSeries("series"));
+        assertTrue(loaded.await(10, TimeUnit.SECONDS));
+        repository.removeUserTokens("sedin");
+        removed.countDown();
+        assertEquals("token-1", read.get(10, TimeUnit.SECONDS).getTokenValue());
+        executor.shutdown();
+
+        assertNull(repository.getTokenForSeries("series"));
+    }
+}
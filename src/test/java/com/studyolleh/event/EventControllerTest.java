@@ -0,0 +1,217 @@
+package com.studyolleh.event;
+
+import com.studyolleh.WithAccount;
+import com.studyolleh.account.AccountRepository;
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Enrollment;
+import com.studyolleh.domain.Event;
+import com.studyolleh.domain.EventType;
+import com.studyolleh.domain.Study;
+import com.studyolleh.study.StudyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventControllerTest {
+
+    private static final int PAST_EVENTS = EventController.PAST_EVENTS_PAGE_SIZE + 5;
+    private static final String ENROLL_BUTTON = "data-target=\"#enroll\"";
+    private static final String DISENROLL_BUTTON = "data-target=\"#disenroll\"";
+    private static final String ATTENDED = "참석 완료";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("모임 목록 - 지난 모임 더 보기")
+    @Test
+    @SuppressWarnings("unchecked")
+    void viewStudyEventsWithPastEventsPaged() throws Exception {
+        Study study = newStudy();
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        saveEvent(study, "새 모임", now.plusDays(1));
+        LocalDateTime pastEnd = now.minusDays(1);
+        for (int i = 0; i < PAST_EVENTS; i++) {
+            saveEvent(study, "지난 모임 " + i, pastEnd);
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/study/test-path/events"))
+                                     .andExpect(status().isOk())
+                                     .andExpect(view().name("study/events"))
+                                     .andExpect(model().attribute("newEvents", hasSize(1)))
+                                     .andExpect(model().attribute("oldEventCount", (long) PAST_EVENTS))
+                                     .andExpect(model().attribute("oldEvents", hasSize(EventController.PAST_EVENTS_PAGE_SIZE)))
+                                     .andExpect(model().attribute("hasMoreOldEvents", true))
+                                     .andReturn();
+
+        List<Event> oldEvents = (List<Event>) firstPage.getModelAndView().getModel().get("oldEvents");
+        Event last = oldEvents.get(oldEvents.size() - 1);
+        MvcResult secondPage = mockMvc.perform(get("/study/test-path/events/past")
+                                      .param("endDateTime", last.getEndDateTime().toString())
+                                      .param("id", last.getId().toString())
+                                      .param("offset", String.valueOf(oldEvents.size())))
+                                      .andExpect(status().isOk())
+                                      .andExpect(model().attribute("oldEvents", hasSize(PAST_EVENTS - EventController.PAST_EVENTS_PAGE_SIZE)))
+                                      .andExpect(model().attribute("hasMoreOldEvents", false))
+                                      .andReturn();
+
+        Set<Long> ids = new HashSet<>();
+        oldEvents.forEach(event -> ids.add(event.getId()));
+        ((List<Event>) secondPage.getModelAndView().getModel().get("oldEvents")).forEach(event -> ids.add(event.getId()));
+        assertEquals(PAST_EVENTS, ids.size());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("모임 참가 신청 - 중복 신청")
+    @Test
+    void newEnrollmentTwice() throws Exception {
+        Event event = saveEvent(newStudy(), "선착순 모임", LocalDateTime.now().plusDays(3));
+        Account account = accountRepository.findByNickname("sedin");
+        String eventUrl = "/study/test-path/events/" + event.getId();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post(eventUrl + "/enroll").with(csrf()))
+                   .andExpect(status().is3xxRedirection())
+                   .andExpect(redirectedUrl(eventUrl));
+        }
+
+        assertTrue(enrollmentRepository.findByEventAndAccount(event, account).isAccepted());
+        assertEquals(1, eventRepository.findById(event.getId()).get().getAcceptedCount());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("모임 참가 신청 취소 - 중복 취소")
+    @Test
+    void cancelEnrollmentTwice() throws Exception {
+        Event event = saveEvent(newStudy(), "선착순 모임", LocalDateTime.now().plusDays(3));
+        Account account = accountRepository.findByNickname("sedin");
+        String eventUrl = "/study/test-path/events/" + event.getId();
+        mockMvc.perform(post(eventUrl + "/enroll").with(csrf()))
+               .andExpect(status().is3xxRedirection());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post(eventUrl + "/leave").with(csrf()))
+                   .andExpect(status().is3xxRedirection())
+                   .andExpect(redirectedUrl(eventUrl));
+        }
+
+        assertNull(enrollmentRepository.findByEventAndAccount(event, account));
+        assertEquals(0, eventRepository.findById(event.getId()).get().getAcceptedCount());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("모임 조회 - 참가 신청하지 않은 사용자")
+    @Test
+    void viewEventWithoutEnrollment() throws Exception {
+        Event event = saveEvent(newStudy(), "선착순 모임", LocalDateTime.now().plusDays(3));
+
+        mockMvc.perform(get("/study/test-path/events/" + event.getId()))
+               .andExpect(status().isOk())
+               .andExpect(view().name("event/view"))
+               .andExpect(model().attributeDoesNotExist("myEnrollment"))
+               .andExpect(content().string(containsString(ENROLL_BUTTON)))
+               .andExpect(content().string(not(containsString(DISENROLL_BUTTON))))
+               .andExpect(content().string(not(containsString(ATTENDED))));
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("모임 조회 - 참가 신청한 사용자")
+    @Test
+    void viewEventWithEnrollment() throws Exception {
+        Event event = saveEvent(newStudy(), "선착순 모임", LocalDateTime.now().plusDays(3));
+        Enrollment enrollment = saveEnrollment(event, false);
+
+        mockMvc.perform(get("/study/test-path/events/" + event.getId()))
+               .andExpect(status().isOk())
+               .andExpect(model().attribute("myEnrollment", enrollment))
+               .andExpect(content().string(not(containsString(ENROLL_BUTTON))))
+               .andExpect(content().string(containsString(DISENROLL_BUTTON)))
+               .andExpect(content().string(not(containsString(ATTENDED))));
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("모임 조회 - 참석 완료한 사용자")
+    @Test
+    void viewEventWithAttendedEnrollment() throws Exception {
+        Event event = saveEvent(newStudy(), "선착순 모임", LocalDateTime.now().plusDays(3));
+        saveEnrollment(event, true);
+
+        mockMvc.perform(get("/study/test-path/events/" + event.getId()))
+               .andExpect(status().isOk())
+               .andExpect(content().string(not(containsString(ENROLL_BUTTON))))
+               .andExpect(content().string(not(containsString(DISENROLL_BUTTON))))
+               .andExpect(content().string(containsString(ATTENDED)));
+    }
+
+    private Enrollment saveEnrollment(Event event, boolean attended) {
+        return enrollmentRepository.save(Enrollment.builder()
+                                                   .event(event)
+                                                   .account(accountRepository.findByNickname("sedin"))
+                                                   .enrolledAt(LocalDateTime.now())
+                                                   .accepted(true)
+                                                   .attended(attended)
+                                                   .build());
+    }
+
+    private Study newStudy() {
+        Study study = new Study();
+        study.setPath("test-path");
+        study.setTitle("test study");
+        return studyService.createNewStudy(study, accountRepository.findByNickname("sedin"));
+    }
+
+    private Event saveEvent(Study study, String title, LocalDateTime endDateTime) {
+        return eventRepository.save(Event.builder()
+                                  .study(study)
+                                  .title(title)
+                                  .createdDateTime(endDateTime.minusDays(3))
+                                  .endEnrollmentDateTime(endDateTime.minusDays(2))
+                                  .startDateTime(endDateTime.minusDays(1))
+                                  .endDateTime(endDateTime)
+                                  .limitOfEnrollments(2)
+                                  .eventType(EventType.FCFS)
+                                  .build());
+    }
+}
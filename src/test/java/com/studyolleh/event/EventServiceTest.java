@@ -0,0 +1,182 @@
+package com.studyolleh.event;
+
+import com.studyolleh.account.AccountRepository;
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Enrollment;
+import com.studyolleh.domain.Event;
+import com.studyolleh.domain.EventType;
+import com.studyolleh.domain.Study;
+import com.studyolleh.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EventServiceTest {
+
+    private static final int THREADS = 16;
+    private static final int ENROLLEES = 200;
+    private static final int LIMIT = 10;
+    private static final int CANCEL_ENROLLEES = 40;
+    private static final int CANCEL_LIMIT = 10;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    private Study study;
+    private Event event;
+    private final List<Account> accounts = new ArrayList<>();
+
+    @AfterEach
+    void afterEach() {
+        if (event != null) {
+            eventService.deleteEvent(event);
+        }
+        if (study != null) {
+            studyRepository.delete(study);
+        }
+        accountRepository.deleteAll(accounts);
+    }
+
+    @DisplayName("선착순 모임에 동시에 참가 신청해도 모집 인원만큼만 확정")
+    @Test
+    void newEnrollmentConcurrently() throws Exception {
+        createEvent(LIMIT, ENROLLEES);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Account account : accounts) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                eventService.newEnrollment(event, account);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        Event enrolled = eventRepository.findById(event.getId()).get();
+        assertEquals(LIMIT, enrolled.getAcceptedCount());
+        assertEquals(ENROLLEES - LIMIT, enrolled.getWaitingCount());
+        List<Enrollment> enrollments = enrollmentsOf(event);
+        assertEquals(ENROLLEES, enrollments.size());
+        assertEquals(LIMIT, enrollments.stream().filter(Enrollment::isAccepted).count());
+
+        Account leaving = enrollments.stream().filter(Enrollment::isAccepted).findFirst().get().getAccount();
+        eventService.cancelEnrollment(event, leaving);
+
+        Event cancelled = eventRepository.findById(event.getId()).get();
+        assertEquals(LIMIT, cancelled.getAcceptedCount());
+        assertEquals(ENROLLEES - LIMIT - 1, cancelled.getWaitingCount());
+        enrollments = enrollmentsOf(event);
+        assertEquals(ENROLLEES - 1, enrollments.size());
+        assertEquals(LIMIT, enrollments.stream().filter(Enrollment::isAccepted).count());
+
+        eventRepository.releaseSpot(event.getId());
+        eventRepository.removeWaiting(event.getId());
+        assertTrue(eventService.repairEnrollmentCounts(event.getId()));
+        assertFalse(eventService.repairEnrollmentCounts(event.getId()));
+
+        Event repaired = eventRepository.findById(event.getId()).get();
+        assertEquals(LIMIT, repaired.getAcceptedCount());
+        assertEquals(ENROLLEES - LIMIT - 1, repaired.getWaitingCount());
+    }
+
+    @DisplayName("확정 취소에 따른 대기자 승급과 대기자 취소가 동시에 일어나도 교착 없이 처리")
+    @Test
+    void cancelEnrollmentWhilePromoting() throws Exception {
+        createEvent(CANCEL_LIMIT, CANCEL_ENROLLEES);
+        for (Account account : accounts) {
+            eventService.newEnrollment(event, account);
+        }
+        List<Account> leaving = new ArrayList<>(accounts.subList(0, CANCEL_LIMIT));
+        for (int i = CANCEL_LIMIT; i < CANCEL_ENROLLEES; i += 2) {
+            leaving.add(accounts.get(i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Account account : leaving) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                eventService.cancelEnrollment(event, account);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        int remaining = CANCEL_ENROLLEES - leaving.size();
+        Event cancelled = eventRepository.findById(event.getId()).get();
+        List<Enrollment> enrollments = enrollmentsOf(event);
+        assertEquals(remaining, enrollments.size());
+        assertEquals(CANCEL_LIMIT, enrollments.stream().filter(Enrollment::isAccepted).count());
+        assertEquals(CANCEL_LIMIT, cancelled.getAcceptedCount());
+        assertEquals(remaining - CANCEL_LIMIT, cancelled.getWaitingCount());
+        assertFalse(eventService.repairEnrollmentCounts(event.getId()));
+    }
+
+    private void createEvent(int limitOfEnrollments, int enrollees) {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        study = studyRepository.save(Study.builder().path(prefix).title("동시 신청").build());
+        LocalDateTime now = LocalDateTime.now();
+        event = eventRepository.save(Event.builder()
+                                          .study(study)
+                                          .title("선착순 모임")
+                                          .createdDateTime(now)
+                                          .endEnrollmentDateTime(now.plusDays(1))
+                                          .startDateTime(now.plusDays(2))
+                                          .endDateTime(now.plusDays(3))
+                                          .limitOfEnrollments(limitOfEnrollments)
+                                          .eventType(EventType.FCFS)
+                                          .build());
+        for (int i = 0; i < enrollees; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                                                       .nickname(prefix + i)
+                                                       .email(prefix + i + "@email.com")
+                                                       .password("12341234")
+                                                       .build()));
+        }
+    }
+
+    private List<Enrollment> enrollmentsOf(Event event) {
+        return enrollmentRepository.findAll().stream()
+                                   .filter(enrollment -> enrollment.getEvent().getId().equals(event.getId()))
+                                   .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,53 @@
+package com.studyolleh.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImageControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ImageService imageService;
+
+    private static final byte[] PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    @DisplayName("이미지 조회 - 해시로 조회")
+    @Test
+    void viewImage() throws Exception {
+        String hash = imageService.storeDataUrl("data:image/png;base64," + Base64.getEncoder().encodeToString(PNG));
+        assertEquals(64, hash.length());
+
+        mockMvc.perform(get("/images/" + hash))
+               .andExpect(status().isOk())
+               .andExpect(content().bytes(PNG))
+               .andExpect(content().contentType("image/png"))
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, ImageController.IMMUTABLE_CACHE_CONTROL));
+
+        mockMvc.perform(get("/images/" + hash).header(HttpHeaders.IF_NONE_MATCH, "\"" + hash + "\""))
+               .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("이미지 조회 - 없는 해시")
+    @Test
+    void viewImageNotFound() throws Exception {
+        mockMvc.perform(get("/images/" + String.join("", Collections.nCopies(64, "0"))))
+               .andExpect(status().isNotFound());
+    }
+}
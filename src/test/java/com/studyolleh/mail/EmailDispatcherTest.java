@@ -0,0 +1,106 @@
+package com.studyolleh.mail;
+
+import com.studyolleh.domain.OutboxEmail;
+import com.studyolleh.domain.OutboxEmailStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@SpringBootTest
+class EmailDispatcherTest {
+
+    @Autowired
+    EmailDispatcher emailDispatcher;
+
+    @Autowired
+    EmailOutbox emailOutbox;
+
+    @Autowired
+    OutboxEmailRepository outboxEmailRepository;
+
+    @MockBean
+    EmailService emailService;
+
+    @BeforeEach
+    void beforeEach() {
+        outboxEmailRepository.deleteAll();
+        given(emailService.sendEmails(anyList())).willCallRealMethod();
+    }
+
+    @AfterEach
+    void afterEach() {
+        outboxEmailRepository.deleteAll();
+    }
+
+    @DisplayName("대기중인 메일 발송")
+    @Test
+    void dispatch() {
+        emailOutbox.enqueue(emailMessage());
+
+        emailDispatcher.dispatch();
+
+        then(emailService).should().sendEmail(any(EmailMessage.class));
+        OutboxEmail email = outboxEmailRepository.findAll().get(0);
+        assertEquals(OutboxEmailStatus.SENT, email.getStatus());
+        assertNotNull(email.getSentAt());
+    }
+
+    @DisplayName("발송 실패 시 다음 시도를 뒤로 미룸")
+    @Test
+    void dispatchWithFailure() {
+        willThrow(new RuntimeException("smtp down")).given(emailService).sendEmail(any(EmailMessage.class));
+        emailOutbox.enqueue(emailMessage());
+
+        emailDispatcher.dispatch();
+        emailDispatcher.dispatch();
+
+        then(emailService).should().sendEmail(any(EmailMessage.class));
+        List<OutboxEmail> emails = outboxEmailRepository.findAll();
+        OutboxEmail email = emails.get(0);
+        assertEquals(OutboxEmailStatus.PENDING, email.getStatus());
+        assertEquals(1, email.getAttempts());
+        assertEquals("smtp down", email.getLastError());
+        assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @DisplayName("일괄 발송 중 예외가 나면 배치 전체를 실패 처리")
+    @Test
+    void dispatchWithBatchFailure() {
+        given(emailService.sendEmails(anyList())).willThrow(new IllegalStateException("no transport"));
+        emailOutbox.enqueue(emailMessage());
+        emailOutbox.enqueue(emailMessage());
+
+        emailDispatcher.dispatch();
+
+        List<OutboxEmail> emails = outboxEmailRepository.findAll();
+        assertEquals(2, emails.size());
+        for (OutboxEmail email : emails) {
+            assertEquals(OutboxEmailStatus.PENDING, email.getStatus());
+            assertEquals(1, email.getAttempts());
+            assertEquals("no transport", email.getLastError());
+            assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        }
+    }
+
+    private EmailMessage emailMessage() {
+        return EmailMessage.builder()
+                           .to("sedin@email.com")
+                           .subject("스터디올래, 테스트")
+                           .message("<p>테스트</p>")
+                           .build();
+    }
+}
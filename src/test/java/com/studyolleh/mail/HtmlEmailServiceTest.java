@@ -0,0 +1,119 @@
+package com.studyolleh.mail;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class HtmlEmailServiceTest {
+
+    private static final int BENCHMARK_MESSAGES = 200;
+
+    GreenMail greenMail;
+
+    JavaMailSenderImpl javaMailSender;
+
+    SmtpTransportPool smtpTransportPool;
+
+    HtmlEmailService htmlEmailService;
+
+    AtomicInteger borrows = new AtomicInteger();
+
+    @BeforeEach
+    void beforeEach() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        smtpTransportPool = new SmtpTransportPool(javaMailSender) {
+            @Override
+            public <T> T execute(TransportCallback<T> callback) throws MessagingException {
+                borrows.incrementAndGet();
+                return super.execute(callback);
+            }
+        };
+        htmlEmailService = new HtmlEmailService(javaMailSender, smtpTransportPool);
+    }
+
+    @AfterEach
+    void afterEach() {
+        htmlEmailService.shutdown();
+        smtpTransportPool.closeAll();
+        greenMail.stop();
+    }
+
+    @DisplayName("적은 메일은 연결 하나로 발송")
+    @Test
+    void sendFewEmailsThroughOneTransport() {
+        List<EmailSendResult> results = htmlEmailService.sendEmails(emailMessages(5));
+
+        assertTrue(results.stream().allMatch(EmailSendResult::isSent));
+        assertEquals(1, borrows.get());
+        assertEquals(5, greenMail.getReceivedMessages().length);
+    }
+
+    @DisplayName("많은 메일은 풀의 연결 여러 개로 나눠 발송")
+    @Test
+    void sendManyEmailsAcrossPool() {
+        List<EmailMessage> emailMessages = emailMessages(HtmlEmailService.MIN_MESSAGES_PER_TRANSPORT * SmtpTransportPool.POOL_SIZE);
+
+        List<EmailSendResult> results = htmlEmailService.sendEmails(emailMessages);
+
+        assertEquals(emailMessages, results.stream().map(EmailSendResult::getEmailMessage).collect(Collectors.toList()));
+        assertTrue(results.stream().allMatch(EmailSendResult::isSent));
+        assertEquals(SmtpTransportPool.POOL_SIZE, borrows.get());
+        assertEquals(emailMessages.size(), greenMail.getReceivedMessages().length);
+    }
+
+    @DisplayName("발송 처리량 - 메일마다 연결 vs 연결 풀")
+    @Test
+    void sendThroughput() throws Exception {
+        List<EmailMessage> emailMessages = emailMessages(BENCHMARK_MESSAGES);
+
+        long started = System.nanoTime();
+        for (EmailMessage emailMessage : emailMessages) {
+            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+            mimeMessageHelper.setTo(emailMessage.getTo());
+            mimeMessageHelper.setSubject(emailMessage.getSubject());
+            mimeMessageHelper.setText(emailMessage.getMessage(), true);
+            javaMailSender.send(mimeMessage);
+        }
+        long perMessageConnection = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        List<EmailSendResult> results = htmlEmailService.sendEmails(emailMessages);
+        long pooled = System.nanoTime() - started;
+
+        log.info("sent {} emails: connection per message {} ms, pooled {} ms", BENCHMARK_MESSAGES,
+                perMessageConnection / 1_000_000, pooled / 1_000_000);
+        assertTrue(results.stream().allMatch(EmailSendResult::isSent));
+        assertEquals(BENCHMARK_MESSAGES * 2, greenMail.getReceivedMessages().length);
+    }
+
+    private List<EmailMessage> emailMessages(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> EmailMessage.builder()
+                                                   .to("user" + i + "@email.com")
+                                                   .subject("스터디올래, 테스트")
+                                                   .message("<p>테스트 " + i + "</p>")
+                                                   .build())
+                        .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,113 @@
+package com.studyolleh.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.cache.StandardCache;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresource.ITemplateResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class MailTemplateRendererTest {
+
+    private static final int BENCHMARK_RENDERS = 1_000;
+
+    AtomicInteger resolutions = new AtomicInteger();
+
+    MailTemplateRenderer mailTemplateRenderer = new MailTemplateRenderer(new ClassLoaderTemplateResolver() {
+        @Override
+        protected ITemplateResource computeTemplateResource(IEngineConfiguration configuration, String ownerTemplate,
+                                                            String template, String resourceName, String characterEncoding,
+                                                            Map<String, Object> templateResolutionAttributes) {
+            resolutions.incrementAndGet();
+            return super.computeTemplateResource(configuration, ownerTemplate, template, resourceName,
+                    characterEncoding, templateResolutionAttributes);
+        }
+    });
+
+    @DisplayName("같은 템플릿으로 여러 수신자의 메일 렌더링")
+    @Test
+    void renderAll() {
+        List<String> messages = mailTemplateRenderer.renderAll("mail/simple-link",
+                Arrays.asList(variables("sedin"), variables("mocha")));
+
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(0).contains("sedin"));
+        assertFalse(messages.get(0).contains("mocha"));
+        assertTrue(messages.get(1).contains("mocha"));
+        assertTrue(messages.get(1).contains("http://localhost:8080/login-by-email?token=mocha"));
+    }
+
+    @DisplayName("템플릿은 한 번만 읽고 파싱")
+    @Test
+    void parseTemplateOnce() {
+        mailTemplateRenderer.render("mail/simple-link", variables("sedin"));
+        mailTemplateRenderer.render("mail/simple-link", variables("mocha"));
+        mailTemplateRenderer.renderAll("mail/simple-link", Arrays.asList(variables("sedin"), variables("mocha")));
+
+        assertEquals(1, resolutions.get());
+        assertEquals(1, mailTemplateRenderer.getTemplateCache().size());
+    }
+
+    @DisplayName("템플릿 캐시 크기 제한")
+    @Test
+    void boundedTemplateCache() {
+        assertEquals(MailTemplateRenderer.TEMPLATE_CACHE_SIZE,
+                ((StandardCache<?, ?>) mailTemplateRenderer.getTemplateCache()).getMaxSize());
+    }
+
+    @DisplayName("렌더링 처리량 - 캐시 없는 엔진 vs 캐시된 렌더러")
+    @Test
+    void renderThroughput() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(false);
+        SpringTemplateEngine uncachedEngine = new SpringTemplateEngine();
+        uncachedEngine.setTemplateResolver(templateResolver);
+        Map<String, Object> variables = variables("sedin");
+
+        long started = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_RENDERS; i++) {
+            Context context = new Context();
+            context.setVariables(variables);
+            uncachedEngine.process("mail/simple-link", context);
+        }
+        long uncached = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_RENDERS; i++) {
+            mailTemplateRenderer.render("mail/simple-link", variables);
+        }
+        long cached = System.nanoTime() - started;
+
+        log.info("rendered {} emails: uncached {} ms, cached {} ms", BENCHMARK_RENDERS,
+                uncached / 1_000_000, cached / 1_000_000);
+        assertEquals(1, resolutions.get());
+    }
+
+    private Map<String, Object> variables(String nickname) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("link", "/login-by-email?token=" + nickname);
+        variables.put("nickname", nickname);
+        variables.put("linkName", "스터디올래 로그인하기");
+        variables.put("message", "로그인 하려면 아래 링크를 클릭하세요.");
+        variables.put("host", "http://localhost:8080");
+        return variables;
+    }
+}
@@ -0,0 +1,110 @@
+package com.studyolleh.mail;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.Transport;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmtpTransportPoolTest {
+
+    private static final int THREADS = 8;
+
+    GreenMail greenMail;
+
+    SmtpTransportPool smtpTransportPool;
+
+    @BeforeEach
+    void beforeEach() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        smtpTransportPool = new SmtpTransportPool(javaMailSender);
+    }
+
+    @AfterEach
+    void afterEach() {
+        smtpTransportPool.closeAll();
+        greenMail.stop();
+    }
+
+    @DisplayName("반납한 연결을 다음 발송에 재사용")
+    @Test
+    void reuseTransport() throws Exception {
+        Transport first = smtpTransportPool.execute(transport -> transport);
+        Transport second = smtpTransportPool.execute(transport -> transport);
+
+        assertSame(first, second);
+        assertTrue(second.isConnected());
+    }
+
+    @DisplayName("끊긴 연결은 버리고 새로 연결")
+    @Test
+    void replaceClosedTransport() throws Exception {
+        Transport first = smtpTransportPool.execute(transport -> {
+            transport.close();
+            return transport;
+        });
+        Transport second = smtpTransportPool.execute(transport -> transport);
+
+        assertNotSame(first, second);
+        assertTrue(second.isConnected());
+    }
+
+    @DisplayName("동시에 풀 크기까지만 연결")
+    @Test
+    void limitConcurrentTransports() throws Exception {
+        Set<Transport> transports = ConcurrentHashMap.newKeySet();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return smtpTransportPool.execute(transport -> {
+                    transports.add(transport);
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    sleep(10);
+                    active.decrementAndGet();
+                    return null;
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertTrue(maxActive.get() <= SmtpTransportPool.POOL_SIZE);
+        assertTrue(transports.size() <= SmtpTransportPool.POOL_SIZE);
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.studyolleh.account.AccountService;
 import com.studyolleh.domain.Account;
 import com.studyolleh.domain.Tag;
 import com.studyolleh.domain.Zone;
+import com.studyolleh.image.ImageService;
+import com.studyolleh.settings.form.TagBatchForm;
 import com.studyolleh.settings.form.TagForm;
 import com.studyolleh.settings.form.ZoneForm;
 import com.studyolleh.tag.TagRepository;
@@ -18,16 +20,27 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -54,6 +67,9 @@ class SettingsControllerTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    ImageService imageService;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -114,6 +130,74 @@ class SettingsControllerTest {
         assertNull(account.getBio());
     }
 
+    @WithAccount("sedin")
+    @DisplayName("프로필 이미지 수정 - 이미지 URL로 조회")
+    @Test
+    void updateProfileImage() throws Exception {
+        String profileImage = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+        mockMvc.perform(post(SettingsController.SETTINGS_PROFILE_URL)
+                .param("profileImage", profileImage)
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(SettingsController.SETTINGS_PROFILE_URL));
+
+        Account account = accountRepository.findByNickname("sedin");
+        assertEquals(1, account.getProfileImageVersion());
+        assertEquals("/profile-image/" + account.getId() + "/1", account.getProfileImageUrl());
+
+        mockMvc.perform(get(account.getProfileImageUrl()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("프로필 이미지 수정 - 직접 올리지 않은 이미지 해시")
+    @Test
+    void updateProfileImageWithForeignHash() throws Exception {
+        String hash = imageService.storeDataUrl("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+        mockMvc.perform(post(SettingsController.SETTINGS_PROFILE_URL)
+                .param("profileImage", hash)
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(SettingsController.SETTINGS_PROFILE_URL));
+
+        Account account = accountRepository.findByNickname("sedin");
+        assertNull(account.getProfileImage());
+        assertEquals(0, account.getProfileImageVersion());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("프로필 이미지 수정 - 파일 업로드")
+    @Test
+    void uploadProfileImage() throws Exception {
+        byte[] png = Base64.getDecoder().decode("iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+        mockMvc.perform(multipart(SettingsController.SETTINGS_PROFILE_URL)
+                .file(new MockMultipartFile("profileImageFile", "profile.png", MediaType.IMAGE_PNG_VALUE, png))
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(SettingsController.SETTINGS_PROFILE_URL));
+
+        Account account = accountRepository.findByNickname("sedin");
+        assertEquals(1, account.getProfileImageVersion());
+        assertNotNull(account.getProfileImage());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("프로필 이미지 수정 - 이미지가 아닌 파일")
+    @Test
+    void uploadProfileImage_notImage() throws Exception {
+        mockMvc.perform(multipart(SettingsController.SETTINGS_PROFILE_URL)
+                .file(new MockMultipartFile("profileImageFile", "profile.png", MediaType.IMAGE_PNG_VALUE, "hello".getBytes()))
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name(SettingsController.SETTINGS_PROFILE_VIEW_NAME))
+                .andExpect(model().hasErrors());
+
+        Account account = accountRepository.findByNickname("sedin");
+        assertNull(account.getProfileImage());
+    }
+
     @WithAccount("sedin")
     @DisplayName("패스워드 수정 폼")
     @Test
@@ -253,7 +337,8 @@ class SettingsControllerTest {
                 .andExpect(view().name(SettingsController.SETTINGS_TAGS_VIEW_NAME))
                 .andExpect(model().attributeExists("account"))
                 .andExpect(model().attributeExists("tags"))
-                .andExpect(model().attributeExists("whitelist"));
+                .andExpect(model().attributeDoesNotExist("whitelistUrl"))
+                .andExpect(content().string(containsString("/tags/suggest")));
     }
 
     @WithAccount("sedin")
@@ -273,6 +358,24 @@ class SettingsControllerTest {
         assertTrue(accountRepository.findByNickname("sedin").getTags().contains(newTag.get()));
     }
 
+    @WithAccount("sedin")
+    @DisplayName("계정에 같은 태그 두 번 추가")
+    @Test
+    void addTagTwice() throws Exception {
+        TagForm tagForm = new TagForm();
+        tagForm.setTagTitle("newTag");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post(SettingsController.SETTINGS_TAGS_URL + "/add")
+                           .contentType(MediaType.APPLICATION_JSON)
+                           .content(objectMapper.writeValueAsString(tagForm))
+                           .with(csrf()))
+                    .andExpect(status().isOk());
+        }
+        Account loginUser = accountRepository.findByNickname("sedin");
+        assertEquals(1, accountService.countTags(loginUser));
+    }
+
     @WithAccount("sedin")
     @DisplayName("계정에 태그 삭제 - 입력값 정상")
     @Test
@@ -308,6 +411,48 @@ class SettingsControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @WithAccount("sedin")
+    @DisplayName("계정 태그 일괄 수정")
+    @Test
+    void updateTagsInBatch() throws Exception {
+        Account loginUser = accountRepository.findByNickname("sedin");
+        Tag oldTag = tagRepository.save(Tag.builder().title("oldTag").build());
+        accountService.addTag(loginUser, oldTag);
+
+        TagBatchForm tagBatchForm = new TagBatchForm();
+        tagBatchForm.setAdd(Arrays.asList("spring", "jpa"));
+        tagBatchForm.setRemove(Collections.singletonList("oldTag"));
+
+        mockMvc.perform(post(SettingsController.SETTINGS_TAGS_URL + "/batch")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(tagBatchForm))
+                       .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("jpa"))
+                .andExpect(jsonPath("$[1]").value("spring"));
+
+        Set<String> titles = loginUser.getTags().stream().map(Tag::getTitle).collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList("spring", "jpa")), titles);
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("계정 태그 일괄 수정 - 너무 많은 태그")
+    @Test
+    void updateTagsInBatchTooMany() throws Exception {
+        TagBatchForm tagBatchForm = new TagBatchForm();
+        tagBatchForm.setAdd(IntStream.rangeClosed(0, TagBatchForm.MAX_BATCH_SIZE)
+                                     .mapToObj(i -> "tag" + i)
+                                     .collect(Collectors.toList()));
+
+        mockMvc.perform(post(SettingsController.SETTINGS_TAGS_URL + "/batch")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(tagBatchForm))
+                       .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        assertTrue(accountRepository.findByNickname("sedin").getTags().isEmpty());
+    }
+
     @WithAccount("sedin")
     @DisplayName("지역 수정 폼")
     @Test
@@ -4,6 +4,9 @@ import com.studyolleh.WithAccount;
 import com.studyolleh.account.AccountRepository;
 import com.studyolleh.domain.Account;
 import com.studyolleh.domain.Study;
+import com.studyolleh.domain.StudyContent;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -36,6 +43,9 @@ class StudyControllerTest {
     @Autowired
     AccountRepository accountRepository;
 
+    @PersistenceContext
+    EntityManager entityManager;
+
     @AfterEach
     void afterEach() {
         accountRepository.deleteAll();
@@ -134,4 +144,31 @@ class StudyControllerTest {
         assertTrue(createdStudy.getManagers().contains(account));
     }
 
+    @WithAccount("sedin")
+    @DisplayName("스터디 가입 - 상세 설명은 읽지 않음")
+    @Test
+    void joinStudyWithoutReadingContent() throws Exception {
+        char[] description = new char[100_000];
+        Arrays.fill(description, 'a');
+        Study study = new Study();
+        study.setPath("test-path");
+        study.setTitle("test study");
+        study.setShortDescription("short description");
+        study.setFullDescription(new String(description));
+        studyService.createNewStudy(study, accountRepository.findByNickname("sedin"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/study/test-path/join"))
+               .andExpect(status().is3xxRedirection());
+        assertEquals(0, statistics.getEntityStatistics(StudyContent.class.getName()).getLoadCount());
+
+        entityManager.flush();
+        entityManager.clear();
+        mockMvc.perform(get("/study/test-path"))
+               .andExpect(status().isOk());
+        assertEquals(1, statistics.getEntityStatistics(StudyContent.class.getName()).getLoadCount());
+    }
 }
\ No newline at end of file
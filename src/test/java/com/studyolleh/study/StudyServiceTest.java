@@ -0,0 +1,98 @@
+package com.studyolleh.study;
+
+import com.studyolleh.account.AccountRepository;
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Study;
+import com.studyolleh.domain.StudyContent;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+@SpringBootTest
+class StudyServiceTest {
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @DisplayName("모집 시작 - 바뀐 속성만 플러시")
+    @Test
+    void startRecruitFlushesOnlyDirtyAttributes() {
+        Account account = accountRepository.save(Account.builder()
+                                                        .nickname("sedin")
+                                                        .email("sedin@email.com")
+                                                        .password("12345678")
+                                                        .build());
+        char[] description = new char[100_000];
+        Arrays.fill(description, 'a');
+        Study study = new Study();
+        study.setPath("test-path");
+        study.setTitle("test study");
+        study.setShortDescription("short description");
+        study.setFullDescription(new String(description));
+        studyService.createNewStudy(study, account);
+        entityManager.flush();
+        entityManager.clear();
+
+        Study loaded = studyService.getStudy("test-path");
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        studyService.startRecruit(loaded);
+
+        assertEquals(new HashSet<>(Arrays.asList("recruiting", "recruitingUpdateDateTime")),
+                     new HashSet<>(Arrays.asList(((SelfDirtinessTracker) loaded).$$_hibernate_getDirtyAttributes())));
+        entityManager.flush();
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(StudyContent.class.getName()).getLoadCount());
+    }
+
+    @DisplayName("경로 색인 - 색인 밖에서 지워진 스터디")
+    @Test
+    void findStudyDeletedOutsideIndex() {
+        Account account = accountRepository.save(Account.builder()
+                                                        .nickname("sedin")
+                                                        .email("sedin@email.com")
+                                                        .password("12345678")
+                                                        .build());
+        Study study = new Study();
+        study.setPath("stale-path");
+        study.setTitle("test study");
+        studyService.createNewStudy(study, account);
+        entityManager.flush();
+        assertEquals(study.getId(), studyService.getStudy("stale-path").getId());
+
+        studyRepository.delete(study);
+        Study recreated = new Study();
+        recreated.setPath("stale-path");
+        recreated.setTitle("test study");
+        studyRepository.save(recreated);
+        entityManager.flush();
+        assertEquals(recreated.getId(), studyService.getStudy("stale-path").getId());
+
+        studyRepository.delete(recreated);
+        entityManager.flush();
+        assertTrue(studyService.isValidPath("stale-path"));
+    }
+}
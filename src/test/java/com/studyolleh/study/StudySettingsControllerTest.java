@@ -0,0 +1,125 @@
+package com.studyolleh.study;
+
+import com.studyolleh.WithAccount;
+import com.studyolleh.account.AccountRepository;
+import com.studyolleh.domain.Account;
+import com.studyolleh.domain.Study;
+import com.studyolleh.image.ImageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudySettingsControllerTest {
+
+    private static final String BANNER_URL = "/study/test-path/settings/banner";
+    private static final byte[] PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        Study study = new Study();
+        study.setPath("test-path");
+        study.setTitle("test study");
+        studyService.createNewStudy(study, accountRepository.findByNickname("sedin"));
+    }
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("스터디 배너 수정 - 파일 업로드")
+    @Test
+    void uploadStudyBanner() throws Exception {
+        mockMvc.perform(multipart(BANNER_URL)
+               .file(new MockMultipartFile("imageFile", "banner.png", MediaType.IMAGE_PNG_VALUE, PNG))
+               .with(csrf()))
+               .andExpect(status().is3xxRedirection())
+               .andExpect(redirectedUrl(BANNER_URL))
+               .andExpect(flash().attribute("message", "스터디 배너를 수정했습니다."));
+
+        assertNotNull(studyRepository.findByPath("test-path").getImage());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("스터디 배너 수정 - 파일 크기 초과")
+    @Test
+    void uploadStudyBannerTooLarge() throws Exception {
+        byte[] large = Arrays.copyOf(PNG, (int) ImageService.MAX_UPLOAD_SIZE + 1);
+        mockMvc.perform(multipart(BANNER_URL)
+               .file(new MockMultipartFile("imageFile", "banner.png", MediaType.IMAGE_PNG_VALUE, large))
+               .with(csrf()))
+               .andExpect(status().is3xxRedirection())
+               .andExpect(redirectedUrl(BANNER_URL));
+
+        assertNull(studyRepository.findByPath("test-path").getImage());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("스터디 배너 수정 - 이미지 픽셀 수 초과")
+    @Test
+    void uploadStudyBannerTooManyPixels() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(5000, 4000, BufferedImage.TYPE_BYTE_BINARY), "png", out);
+        assertTrue(out.size() <= ImageService.MAX_UPLOAD_SIZE);
+
+        mockMvc.perform(multipart(BANNER_URL)
+               .file(new MockMultipartFile("imageFile", "banner.png", MediaType.IMAGE_PNG_VALUE, out.toByteArray()))
+               .with(csrf()))
+               .andExpect(status().is3xxRedirection())
+               .andExpect(redirectedUrl(BANNER_URL));
+
+        assertNull(studyRepository.findByPath("test-path").getImage());
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("스터디 배너 수정 - 이미지 URL 크기 초과")
+    @Test
+    void updateStudyBannerDataUrlTooLarge() throws Exception {
+        char[] base64 = new char[(int) ImageService.MAX_UPLOAD_SIZE / 3 * 4 + 8];
+        Arrays.fill(base64, 'A');
+        mockMvc.perform(post(BANNER_URL)
+               .param("image", "data:image/png;base64," + new String(base64))
+               .with(csrf()))
+               .andExpect(status().is3xxRedirection())
+               .andExpect(redirectedUrl(BANNER_URL));
+
+        assertNull(studyRepository.findByPath("test-path").getImage());
+    }
+}
@@ -0,0 +1,86 @@
+package com.studyolleh.tag;
+
+import com.studyolleh.WithAccount;
+import com.studyolleh.account.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TagControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TagSuggestIndex tagSuggestIndex;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+        tagSuggestIndex.initIndex();
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("태그 추천 - 사용 횟수 순으로 조회")
+    @Test
+    void suggest() throws Exception {
+        tagSuggestIndex.used("Spring Boot");
+        tagSuggestIndex.used("Spring Data JPA");
+        tagSuggestIndex.used("Spring Data JPA");
+
+        mockMvc.perform(get("/tags/suggest").param("q", "spring"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[0]").value("Spring Data JPA"))
+               .andExpect(jsonPath("$[1]").value("Spring Boot"));
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("태그 추천 - 짧은 접두어는 사용 횟수가 바뀌면 다시 계산")
+    @Test
+    void suggestWithShortPrefix() throws Exception {
+        tagSuggestIndex.used("Spring Boot");
+
+        mockMvc.perform(get("/tags/suggest").param("q", "sp"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[0]").value("Spring Boot"));
+
+        tagSuggestIndex.used("Spring Data JPA");
+        tagSuggestIndex.used("Spring Data JPA");
+
+        mockMvc.perform(get("/tags/suggest").param("q", "sp"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[0]").value("Spring Data JPA"))
+               .andExpect(jsonPath("$[1]").value("Spring Boot"));
+    }
+
+    @WithAccount("sedin")
+    @DisplayName("태그 추천 - 한글 자모로 조회")
+    @Test
+    void suggestWithHangulJamo() throws Exception {
+        tagSuggestIndex.used("스프링");
+
+        mockMvc.perform(get("/tags/suggest").param("q", "습"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$").isEmpty());
+
+        mockMvc.perform(get("/tags/suggest").param("q", "ㅅ"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[0]").value("스프링"));
+
+        mockMvc.perform(get("/tags/suggest").param("q", "스ㅍ"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[0]").value("스프링"));
+    }
+}
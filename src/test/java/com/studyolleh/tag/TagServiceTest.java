@@ -0,0 +1,92 @@
+package com.studyolleh.tag;
+
+import com.studyolleh.domain.Tag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TagServiceTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    TagService tagService;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @DisplayName("롤백된 트랜잭션에서 만든 태그는 남지 않음")
+    @Test
+    void findOrCreateNewRolledBack() {
+        String title = UUID.randomUUID().toString().substring(0, 8);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertEquals(title, tagService.findOrCreateNew(title).getTitle());
+            status.setRollbackOnly();
+        });
+
+        assertFalse(tagRepository.findByTitle(title).isPresent());
+        assertEquals(title, tagService.findOrCreateNew(title).getTitle());
+    }
+
+    @DisplayName("같은 태그와 서로 다른 태그를 동시에 생성")
+    @Test
+    void findOrCreateNewConcurrently() throws Exception {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        String sharedTitle = prefix + "-shared";
+        Map<String, Set<Long>> idsByTitle = new ConcurrentHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    String distinctTitle = prefix + "-" + thread + "-" + round;
+                    String contendedTitle = prefix + "-round-" + round;
+                    for (String title : new String[]{sharedTitle, distinctTitle, contendedTitle}) {
+                        Tag tag = tagService.findOrCreateNew(title);
+                        assertEquals(title, tag.getTitle());
+                        idsByTitle.computeIfAbsent(title, key -> ConcurrentHashMap.newKeySet()).add(tag.getId());
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertEquals(1 + THREADS * ROUNDS + ROUNDS, idsByTitle.size());
+        idsByTitle.forEach((title, ids) -> {
+            assertEquals(1, ids.size(), title);
+            Tag tag = tagRepository.findByTitle(title).orElseThrow(AssertionError::new);
+            assertEquals(ids.iterator().next(), tag.getId());
+        });
+    }
+}